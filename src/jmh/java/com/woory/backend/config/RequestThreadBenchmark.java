@@ -0,0 +1,97 @@
+package com.woory.backend.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 요청 스레드 모델별 처리량 비교 (플랫폼 스레드 200개 = Tomcat 기본값, 요청마다 가상 스레드)
+ * 요청 하나는 커넥션 풀에서 짧은 쿼리 한 번 + 외부 호출(S3, OAuth 제공자) 대기로 흉내 낸다.
+ * 한 번의 측정은 concurrency 개 요청을 동시에 보내고 모두 끝날 때까지이며, virtual 은 Java 21 이상에서 실행
+ * ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=RequestThreadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestThreadBenchmark {
+
+	private static final int PLATFORM_THREADS = 200;
+
+	@Param({"platform", "virtual"})
+	private String threads;
+
+	@Param({"200", "2000"})
+	private int concurrency;
+
+	@Param({"20"})
+	private long externalCallMillis;
+
+	private HikariDataSource dataSource;
+	private ExecutorService executor;
+
+	@Setup
+	public void setUp() throws Exception {
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl("jdbc:h2:mem:request-thread;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		config.setUsername("sa");
+		config.setMaximumPoolSize(10);
+		dataSource = new HikariDataSource(config);
+		executor = "virtual".equals(threads) ? newVirtualThreadPerTaskExecutor()
+			: Executors.newFixedThreadPool(PLATFORM_THREADS);
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+		dataSource.close();
+	}
+
+	@Benchmark
+	public int requests() throws Exception {
+		List<Future<Integer>> futures = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(executor.submit(this::handle));
+		}
+		int sum = 0;
+		for (Future<Integer> future : futures) {
+			sum += future.get();
+		}
+		return sum;
+	}
+
+	private int handle() throws Exception {
+		int value;
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("select 1")) {
+			rs.next();
+			value = rs.getInt(1);
+		}
+		Thread.sleep(externalCallMillis);
+		return value;
+	}
+
+	// 17 툴체인에서도 컴파일되도록 리플렉션으로 생성
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	}
+}
@@ -0,0 +1,62 @@
+package com.woory.backend.dto;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.woory.backend.entity.Comment;
+import com.woory.backend.entity.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentMapperBenchmark {
+
+	@Param({"20", "200"})
+	private int commentCount;
+
+	@Param({"0", "10", "100"})
+	private int repliesPerComment;
+
+	private List<Comment> comments;
+
+	@Setup
+	public void setUp() {
+		User[] users = new User[5];
+		for (int i = 0; i < users.length; i++) {
+			users[i] = User.builder().userId((long)i).nickname("user" + i).profileImage("profile" + i).build();
+		}
+		long id = 0;
+		comments = new ArrayList<>(commentCount);
+		for (int i = 0; i < commentCount; i++) {
+			Comment comment = comment(id++, users[i % users.length]);
+			for (int j = 0; j < repliesPerComment; j++) {
+				comment.addReply(comment(id++, users[j % users.length]));
+			}
+			comments.add(comment);
+		}
+	}
+
+	@Benchmark
+	public List<CommentReplyDto> toDTO() {
+		List<CommentReplyDto> result = new ArrayList<>(comments.size());
+		for (Comment comment : comments) {
+			result.add(CommentMapper.toDTO(comment, 0L));
+		}
+		return result;
+	}
+
+	private static Comment comment(long id, User user) {
+		return Comment.builder().commentId(id).users(user).commentText("댓글 " + id).commentDate(new Date()).build();
+	}
+}
@@ -0,0 +1,53 @@
+package com.woory.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.ReactionType;
+import com.woory.backend.entity.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentReactionDtoBenchmark {
+
+	// 가족은 최대 5명 이지만 한 글에 반응이 몰리는 경우까지 확인
+	@Param({"5", "50", "500"})
+	private int reactionCount;
+
+	private List<ContentReaction> reactions;
+
+	@Setup
+	public void setUp() {
+		Content content = Content.builder().contentId(1L).build();
+		ReactionType[] types = ReactionType.values();
+		reactions = new ArrayList<>(reactionCount);
+		for (int i = 0; i < reactionCount; i++) {
+			User user = User.builder().userId((long)i).build();
+			reactions.add(new ContentReaction(content, user, types[i % types.length]));
+		}
+	}
+
+	@Benchmark
+	public List<ContentReactionDto.ForStatistics> toReactionForStatistics() {
+		return ContentReactionDto.toReactionForStatistics(0L, reactions);
+	}
+
+	@Benchmark
+	public Map<ReactionType, List<ContentReactionDto>> toSeparatedReactions() {
+		return ContentReactionDto.toSeparatedReactions(reactions);
+	}
+}
@@ -0,0 +1,59 @@
+package com.woory.backend.dto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.woory.backend.entity.Comment;
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.ReactionType;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.User;
+import com.woory.backend.utils.DateUtil;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopicDtoBenchmark {
+
+	@Param({"5", "50"})
+	private int contentCount;
+
+	private Topic topic;
+
+	@Setup
+	public void setUp() {
+		topic = Topic.builder().topicId(1L).topicContent("토픽").topicByte(30).issueDate(DateUtil.today()).build();
+		for (int i = 0; i < contentCount; i++) {
+			User user = User.builder().userId((long)(i % 5)).nickname("user" + i).build();
+			Content content = Content.builder().contentId((long)i).topic(topic).users(user).contentText("글 " + i)
+				.contentRegDate(Instant.now()).comments(new ArrayList<>()).build();
+			for (int j = 0; j < 10; j++) {
+				content.getComments().add(Comment.builder().content(content).users(user).commentText("댓글").build());
+			}
+			content.getContentReactions().add(new ContentReaction(content, user, ReactionType.LOVE));
+			topic.getContent().add(content);
+		}
+	}
+
+	@Benchmark
+	public TopicDto fromTopicWithContents() {
+		return TopicDto.fromTopicWithContents(0L, topic, true, false, false);
+	}
+
+	@Benchmark
+	public List<ContentWithUserDto> toContentWithUserDto() {
+		return topic.getContent().stream().map(c -> ContentWithUserDto.toContentWithUserDto(0L, c)).toList();
+	}
+}
@@ -0,0 +1,137 @@
+package com.woory.backend.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woory.backend.WooryApplication;
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.TopicDto;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.Comment;
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.ReactionType;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.User;
+import com.woory.backend.repository.CommentRepository;
+import com.woory.backend.repository.ContentReactionRepository;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.repository.UserRepository;
+
+/**
+ * H2 메모리 DB 위에서 하루 피드 조회 전체 (쿼리 + 변환) 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopicWithContentsBenchmark {
+
+	private static final int MEMBER_COUNT = 5;
+
+	@Param({"5", "50"})
+	private int contentCount;
+
+	@Param({"10"})
+	private int commentsPerContent;
+
+	private ConfigurableApplicationContext context;
+	private ContentService contentService;
+	private LocalDate date;
+	private Long groupId;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(WooryApplication.class).profiles("jmh").run();
+		contentService = context.getBean(ContentService.class);
+		date = LocalDate.now();
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+			context.getBean(PlatformTransactionManager.class));
+		List<User> users = transactionTemplate.execute(status -> insertFixture());
+		groupId = users.get(0).getGroupUsers().get(0).getGroup().getGroupId();
+
+		// 벤치마크 스레드와 설정 스레드가 달라도 같은 사용자로 조회
+		SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new CustomOAuth2User(UserDto.builder().userId(users.get(0).getUserId()).role("ROLE_USER").build()),
+			null, List.of()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+		context.close();
+	}
+
+	@Benchmark
+	public TopicDto getTopicWithContents() {
+		return contentService.getTopicWithContents(date, groupId);
+	}
+
+	private List<User> insertFixture() {
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		GroupRepository groupRepository = context.getBean(GroupRepository.class);
+		TopicRepository topicRepository = context.getBean(TopicRepository.class);
+		ContentRepository contentRepository = context.getBean(ContentRepository.class);
+		CommentRepository commentRepository = context.getBean(CommentRepository.class);
+		ContentReactionRepository contentReactionRepository = context.getBean(ContentReactionRepository.class);
+
+		Group group = new Group();
+		group.setGroupName("벤치마크");
+		group.setGroupRegDate(date.minusDays(1));
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < MEMBER_COUNT; i++) {
+			User user = userRepository.save(User.builder().nickname("user" + i).role("ROLE_USER").build());
+			GroupUser groupUser = new GroupUser();
+			groupUser.setGroup(group);
+			groupUser.setUser(user);
+			groupUser.setStatus(i == 0 ? GroupStatus.GROUP_LEADER : GroupStatus.MEMBER);
+			groupUser.setRegDate(new Date());
+			group.getGroupUsers().add(groupUser);
+			user.getGroupUsers().add(groupUser);
+			users.add(user);
+		}
+		groupRepository.save(group);
+
+		Topic topic = topicRepository.save(Topic.builder().group(group).topicContent("토픽").issueDate(date)
+			.build());
+		for (int i = 0; i < contentCount; i++) {
+			User author = users.get(i % MEMBER_COUNT);
+			Content content = contentRepository.save(Content.builder().topic(topic).users(author)
+				.contentText("글 " + i).contentRegDate(Instant.now()).build());
+			for (int j = 0; j < commentsPerContent; j++) {
+				commentRepository.save(Comment.builder().content(content).users(users.get(j % MEMBER_COUNT))
+					.commentText("댓글").commentDate(new Date()).build());
+			}
+			for (User user : users) {
+				contentReactionRepository.save(new ContentReaction(content, user, ReactionType.LOVE));
+			}
+		}
+		return users;
+	}
+}
@@ -0,0 +1,63 @@
+package com.woory.backend.utils;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.woory.backend.domain.TokenStatus;
+import com.woory.backend.domain.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+
+	private JWTUtil jwtUtil;
+	private VerifiedTokenCache verifiedTokenCache;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		// HS512 에 필요한 64바이트 키
+		String secret = Base64.getEncoder().encodeToString(new byte[64]);
+		jwtUtil = new JWTUtil(secret, 3600L);
+		verifiedTokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 100, 600);
+		token = jwtUtil.generateAccessToken(1L, "ROLE_USER");
+	}
+
+	@Benchmark
+	public TokenStatus validateAccessToken() {
+		return jwtUtil.validateAccessToken(token);
+	}
+
+	@Benchmark
+	public Optional<VerifiedToken> verifyAccessToken() {
+		return jwtUtil.verifyAccessToken(token);
+	}
+
+	@Benchmark
+	public Long getUserId() {
+		return jwtUtil.getUserId(token);
+	}
+
+	// 필터에서 실제로 쓰는 경로, 캐시 적중 시 비용
+	@Benchmark
+	public Optional<VerifiedToken> cachedVerify() {
+		return verifiedTokenCache.get(token);
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return jwtUtil.generateAccessToken(1L, "ROLE_USER");
+	}
+}
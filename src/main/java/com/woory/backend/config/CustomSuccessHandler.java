@@ -8,24 +8,28 @@ import org.springframework.security.web.authentication.SimpleUrlAuthenticationSu
 import org.springframework.stereotype.Component;
 
 import com.woory.backend.dto.CustomOAuth2User;
-import com.woory.backend.utils.SecurityUtil;
+import com.woory.backend.utils.OAuthCodeStore;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
+	private final OAuthCodeStore oAuthCodeStore;
+
 	@Override
 	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
 		Authentication authentication) throws IOException, ServletException {
 		CustomOAuth2User user = (CustomOAuth2User)authentication.getPrincipal();
 
 		UUID code = UUID.randomUUID();
-		SecurityUtil.saveUserWithUUID(code, user);
+		oAuthCodeStore.save(code.toString(), user);
 
 		String client = user.getUsername().split(" ")[0];
 
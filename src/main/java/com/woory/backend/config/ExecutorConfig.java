@@ -0,0 +1,54 @@
+package com.woory.backend.config;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class ExecutorConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(ExecutorConfig.class);
+
+	// 이미지 디코딩은 메모리를 많이 쓰므로 스레드와 대기열을 제한하고, 넘치면 버림 (원본 이미지로 대체됨)
+	@Bean(name = "imageExecutor")
+	public Executor imageExecutor(
+		@Value("${image.executor.threads:2}") int threads,
+		@Value("${image.executor.queue-capacity:100}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("image-");
+		executor.setRejectedExecutionHandler((runnable, pool) ->
+			log.warn("이미지 작업 대기열이 가득 차 작업을 건너뜁니다. queue={}", pool.getQueue().size()));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.initialize();
+		return executor;
+	}
+
+	// 외부 CDN 에서 받는 대기가 대부분이라 이미지 디코딩과 스레드를 나눔, 넘치면 버림 (기본 프로필 이미지 유지)
+	@Bean(name = "profileImageExecutor")
+	public Executor profileImageExecutor(
+		@Value("${image.import.threads:4}") int threads,
+		@Value("${image.import.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("profile-image-");
+		executor.setRejectedExecutionHandler((runnable, pool) ->
+			log.warn("프로필 이미지 대기열이 가득 차 작업을 건너뜁니다. queue={}", pool.getQueue().size()));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,66 @@
+package com.woory.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * datasource.replica.enabled=true 일 때 기본 DB(spring.datasource)와 복제 DB(datasource.replica)를 나눠 쓴다.
+ * 꺼져 있으면 스프링 부트 기본 DataSource 하나만 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+	// 마이그레이션은 항상 기본 DB 에 적용
+	@Bean
+	@FlywayDataSource
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		@Value("${datasource.replica.url}") String url,
+		@Value("${datasource.replica.username:}") String username,
+		@Value("${datasource.replica.password:}") String password) {
+		HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+			.url(url).username(username).password(password)
+			.build();
+		replica.setPoolName("replica");
+		replica.setReadOnly(true);
+		return replica;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+		@Qualifier("replicaDataSource") DataSource replica,
+		@Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+		@Value("${datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+		@Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+		return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLagSeconds);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") DataSource primary,
+		@Qualifier("replicaDataSource") DataSource replica,
+		ReplicaLagMonitor replicaLagMonitor) {
+		return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replica, replicaLagMonitor));
+	}
+}
@@ -0,0 +1,71 @@
+package com.woory.backend.config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제 DB 의 지연을 주기적으로 확인해 읽기 전용 트랜잭션을 보내도 되는지 판단한다.
+ * 지연이 기준을 넘거나, 지연을 알 수 없거나(복제 중단, 조회 실패) 연결에 실패하면 기본 DB 로 보낸다.
+ */
+public class ReplicaLagMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+	private final JdbcTemplate replica;
+	private final String lagQuery;
+	private final String lagColumn;
+	private final long maxLagSeconds;
+	// 첫 확인 전에는 복제 DB 를 쓰지 않음
+	private volatile boolean available;
+
+	public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, long maxLagSeconds) {
+		this.replica = new JdbcTemplate(replica);
+		this.lagQuery = lagQuery;
+		this.lagColumn = lagColumn;
+		this.maxLagSeconds = maxLagSeconds;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	@Scheduled(fixedDelayString = "${datasource.replica.lag-check-ms:5000}")
+	public void check() {
+		try {
+			if (lagQuery == null || lagQuery.isBlank()) {
+				// 지연 조회가 없으면 연결만 확인
+				replica.queryForObject("select 1", Integer.class);
+				update(true, null);
+				return;
+			}
+			Long lag = replica.query(lagQuery, rs -> {
+				if (!rs.next()) {
+					return null;
+				}
+				Number value = (Number)rs.getObject(lagColumn);
+				return value == null ? null : value.longValue();
+			});
+			update(lag != null && lag <= maxLagSeconds, lag);
+		} catch (Exception e) {
+			log.warn("복제 DB 상태를 확인하지 못했습니다. {}", e.getMessage());
+			update(false, null);
+		}
+	}
+
+	// 복제 DB 연결에 실패했을 때, 다음 확인 전까지 기본 DB 사용
+	public void markUnavailable(Exception cause) {
+		log.warn("복제 DB 연결에 실패해 기본 DB 로 전환합니다. {}", cause.getMessage());
+		update(false, null);
+	}
+
+	private void update(boolean next, Long lag) {
+		if (available != next) {
+			log.info("복제 DB 사용 {} (지연 {}초)", next ? "재개" : "중지", lag);
+		}
+		available = next;
+	}
+}
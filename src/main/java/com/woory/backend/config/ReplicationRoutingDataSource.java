@@ -0,0 +1,52 @@
+package com.woory.backend.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제 DB, 나머지는 기본 DB 로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤에 연결을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	enum Route {
+		PRIMARY, REPLICA
+	}
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+		this.lagMonitor = lagMonitor;
+		setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && lagMonitor.isAvailable()) {
+			return Route.REPLICA;
+		}
+		return Route.PRIMARY;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		DataSource target = determineTargetDataSource();
+		try {
+			return target.getConnection();
+		} catch (SQLException e) {
+			if (target == getResolvedDataSources().get(Route.PRIMARY)) {
+				throw e;
+			}
+			lagMonitor.markUnavailable(e);
+			return getResolvedDataSources().get(Route.PRIMARY).getConnection();
+		}
+	}
+}
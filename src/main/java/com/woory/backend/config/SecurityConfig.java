@@ -6,6 +6,8 @@ import java.util.List;
 import com.woory.backend.filter.JWTFilter;
 import com.woory.backend.service.CustomOAuth2UserService;
 import com.woory.backend.utils.JWTUtil;
+import com.woory.backend.utils.OAuthCodeStore;
+import com.woory.backend.utils.VerifiedTokenCache;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +25,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
 
 @Configuration
@@ -34,6 +37,8 @@ public class SecurityConfig {
 	private final ClientRegistrationRepository clientRegistrationRepository;
 	private final JWTUtil jwtUtil;
 	private final CustomSuccessHandler successHandler;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final OAuthCodeStore oAuthCodeStore;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -42,7 +47,7 @@ public class SecurityConfig {
 			.formLogin(AbstractHttpConfigurer::disable)
 			.httpBasic(AbstractHttpConfigurer::disable)
 			.cors((cors) -> cors.configurationSource(getCorsConfiguration()))
-			.addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+			.addFilterBefore(new JWTFilter(jwtUtil, verifiedTokenCache, oAuthCodeStore), UsernamePasswordAuthenticationFilter.class)
 			.oauth2Login((oauth2) -> oauth2
 				.clientRegistrationRepository(clientRegistrationRepository)
 				.userInfoEndpoint(userInfoEndpointConfig ->
@@ -58,6 +63,8 @@ public class SecurityConfig {
 				))
 			.sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.authorizeHttpRequests((auth) -> auth
+				// 알림 스트림(SSE) 종료 시 발생하는 async dispatch 는 최초 요청에서 이미 인증됨
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				// certbot webroot 경로에 대해 접근 허용
 				.requestMatchers("/", "/.well-known/**", "/error", "swagger-ui/**", "swagger/docs/**").permitAll()
 				.anyRequest().authenticated());
@@ -63,13 +63,25 @@ public class CommentController {
 		return response;
 	}
 
+	// cursor 는 이전 응답의 nextCursor 값, 없으면 처음부터 조회
 	@Operation(summary = "comment 조회")
 	@GetMapping("/{contentId}")
-	public Map<String, Object> getCommentsByContentId(@PathVariable("contentId") Long contentId) {
-		// List<CommentReplyDto> comments = commentService.getCommentsByContentId(contentId);
-		// Map<String, Object> response = StatusUtil.getStatusMessage("댓글이 조회되었습니다");
-		// response.put("data", comments);
-		return commentService.getCommentsByContentId(contentId);
+	public Map<String, Object> getCommentsByContentId(@PathVariable("contentId") Long contentId,
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "limit", defaultValue = "20") int limit) {
+		return commentService.getCommentsByContentId(contentId, cursor, pageSize(limit));
+	}
+
+	@Operation(summary = "comment 답글 조회")
+	@GetMapping("/{commentId}/replies")
+	public Map<String, Object> getReplies(@PathVariable("commentId") Long commentId,
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "limit", defaultValue = "20") int limit) {
+		return commentService.getReplies(commentId, cursor, pageSize(limit));
+	}
+
+	private int pageSize(int limit) {
+		return Math.max(1, Math.min(limit, CommentService.MAX_PAGE_SIZE));
 	}
 
 }
@@ -0,0 +1,61 @@
+package com.woory.backend.controller;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.woory.backend.entity.ImageUpload;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.service.AwsService;
+import com.woory.backend.utils.StatusUtil;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/v1/images")
+@RequiredArgsConstructor
+@Tag(name = "이미지 관련", description = "이미지 업로드 API")
+public class ImageController {
+	private final AwsService awsService;
+
+	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "이미지 업로드 (multipart)")
+	public Map<String, Object> uploadMultipart(@RequestPart("image") MultipartFile image) {
+		try {
+			return uploaded(awsService.upload(image.getInputStream(), image.getSize()));
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
+		}
+	}
+
+	@PostMapping(consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	@Operation(summary = "이미지 업로드 (바이너리 본문)")
+	public Map<String, Object> uploadBinary(HttpServletRequest request) {
+		long length = request.getContentLengthLong();
+		if (length < 0) {
+			throw new CustomException(ErrorCode.FILE_LENGTH_REQUIRED);
+		}
+		try {
+			return uploaded(awsService.upload(request.getInputStream(), length));
+		} catch (IOException e) {
+			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
+		}
+	}
+
+	// 게시물/프로필에 붙일 때는 images 에 uploadId 를 보냄, imagePath 는 미리보기용
+	private Map<String, Object> uploaded(ImageUpload upload) {
+		Map<String, Object> response = StatusUtil.getStatusMessage("이미지 업로드에 성공했습니다.");
+		response.put("data", Map.of("uploadId", upload.getUploadId(), "imagePath", upload.getImagePath()));
+		return response;
+	}
+}
@@ -1,12 +1,18 @@
 package com.woory.backend.controller;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.woory.backend.dto.NotificationResponseDto;
 import com.woory.backend.service.NotificationService;
 import com.woory.backend.utils.StatusUtil;
 
@@ -19,10 +25,36 @@ public class NotificationController {
 
 	private final NotificationService notificationService;
 
+	// beforeDate(epoch millis), beforeId 는 이전 응답의 nextCursor 값
 	@GetMapping("/{groupId}")
-	public Map<String, Object> getNotifications(@PathVariable("groupId") Long groupId) {
+	public Map<String, Object> getNotifications(@PathVariable("groupId") Long groupId,
+		@RequestParam(value = "beforeDate", required = false) Long beforeDate,
+		@RequestParam(value = "beforeId", required = false) Long beforeId,
+		@RequestParam(value = "size", defaultValue = "10") int size) {
+		int pageSize = Math.max(1, Math.min(size, NotificationService.MAX_PAGE_SIZE));
+		List<NotificationResponseDto> notifications = notificationService.getNotifications(groupId, beforeDate,
+			beforeId, pageSize);
+
 		Map<String, Object> response = StatusUtil.getStatusMessage("조회 성공");
-		response.put("data", notificationService.getNotifications(groupId));
+		response.put("data", notifications);
+		response.put("nextCursor", nextCursor(notifications, pageSize));
 		return response;
 	}
+
+	// 새 알림을 실시간으로 받는 스트림
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamNotifications(@RequestParam("groupId") Long groupId) {
+		return notificationService.subscribe(groupId);
+	}
+
+	private Map<String, Long> nextCursor(List<NotificationResponseDto> notifications, int size) {
+		if (notifications.isEmpty() || notifications.size() < size) {
+			return null;
+		}
+		NotificationResponseDto last = notifications.get(notifications.size() - 1);
+		Map<String, Long> cursor = new HashMap<>();
+		cursor.put("beforeDate", last.getIssueDate().getTime());
+		cursor.put("beforeId", last.getNotificationId());
+		return cursor;
+	}
 }
@@ -0,0 +1,14 @@
+package com.woory.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시물 이미지가 저장되었을 때 발행하는 이벤트, 커밋 이후 썸네일을 만든다.
+ */
+@Getter
+@AllArgsConstructor
+public class ContentImageSavedEvent {
+	private final Long contentId;
+	private final String imagePath;
+}
@@ -0,0 +1,17 @@
+package com.woory.backend.domain;
+
+import java.util.List;
+
+import com.woory.backend.entity.Notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림이 저장되었을 때 발행하는 이벤트, 커밋 이후 스트림 구독자에게 전달된다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCreatedEvent {
+	private final List<Notification> notifications;
+}
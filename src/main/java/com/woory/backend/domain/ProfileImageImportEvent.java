@@ -0,0 +1,15 @@
+package com.woory.backend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 새 사용자를 기본 이미지로 만든 뒤 발행하는 이벤트, 제공자의 프로필 이미지를 가져와 바꾼다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProfileImageImportEvent {
+	private final Long userId;
+	private final String sourceUrl;
+	private final String defaultImage;
+}
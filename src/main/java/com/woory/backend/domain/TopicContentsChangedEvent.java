@@ -0,0 +1,22 @@
+package com.woory.backend.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 토픽의 글이 작성, 수정, 삭제되었을 때 발행하는 이벤트, 커밋 이후 하루 요약을 다시 계산한다.
+ */
+@Getter
+public class TopicContentsChangedEvent {
+	private final List<Long> topicIds;
+
+	public TopicContentsChangedEvent(Collection<Long> topicIds) {
+		this.topicIds = List.copyOf(topicIds);
+	}
+
+	public TopicContentsChangedEvent(Long topicId) {
+		this(List.of(topicId));
+	}
+}
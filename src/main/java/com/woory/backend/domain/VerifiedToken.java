@@ -0,0 +1,30 @@
+package com.woory.backend.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰에서 필요한 값만 꺼내 둔 결과
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+	private final Long userId;
+	private final List<? extends GrantedAuthority> authorities;
+	private final Instant expiresAt;
+
+	// 만료까지 남은 시간, 만료 정보가 없으면 최대 시간
+	public long nanosUntilExpiry(long maxNanos) {
+		if (expiresAt == null) {
+			return maxNanos;
+		}
+		long remaining = Duration.between(Instant.now(), expiresAt).toNanos();
+		return Math.max(0, Math.min(remaining, maxNanos));
+	}
+}
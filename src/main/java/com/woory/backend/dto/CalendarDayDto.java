@@ -0,0 +1,17 @@
+package com.woory.backend.dto;
+
+import java.time.LocalDate;
+
+public interface CalendarDayDto {
+	LocalDate getSummaryDay();
+
+	Long getTopicId();
+
+	int getPostCount();
+
+	String getContentImgPath();
+
+	String getContentThumbnailPath();
+
+	String getContentPreviewPath();
+}
@@ -0,0 +1,41 @@
+package com.woory.backend.dto;
+
+import java.util.Date;
+
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 목록 커서, "작성시각(epoch millis)_댓글아이디" 형식
+ * 커서가 가리키는 댓글 다음부터 (comment_date, comment_id) 오름차순으로 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+	private static final CommentCursor FIRST = new CommentCursor(new Date(0), 0L);
+
+	private final Date commentDate;
+	private final Long commentId;
+
+	public static CommentCursor from(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST;
+		}
+		String[] parts = cursor.split("_");
+		try {
+			if (parts.length != 2) {
+				throw new NumberFormatException(cursor);
+			}
+			return new CommentCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+		} catch (NumberFormatException e) {
+			throw new CustomException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public static String of(CommentRowDto row) {
+		return row.getCommentDate().getTime() + "_" + row.getCommentId();
+	}
+}
@@ -2,6 +2,11 @@ package com.woory.backend.dto;
 
 import com.woory.backend.entity.Comment;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class CommentMapper {
@@ -14,6 +19,7 @@ public class CommentMapper {
                 .name(comment.getUsers().getNickname()) // Assuming User has a getName() method
                 .commentId(comment.getCommentId())
                 .comment(comment.getCommentText())
+                .replyCount(comment.getReplies().size())
                 .replies(comment.getReplies().stream()
                         .map(reply -> toReplyDTO(reply, userId))
                         .collect(Collectors.toList()))
@@ -30,4 +36,53 @@ public class CommentMapper {
                 .comment(reply.getCommentText())
                 .build();
     }
+
+    // 댓글 한 페이지에 댓글별 답글 미리보기와 답글 수를 붙임
+    public static List<CommentReplyDto> toPage(List<CommentRowDto> comments, List<CommentRowDto> previews,
+            Long userId) {
+        Map<Long, CommentReplyDto> page = new LinkedHashMap<>();
+        for (CommentRowDto row : comments) {
+            page.put(row.getCommentId(), toDTO(row, userId));
+        }
+        Map<Long, CommentRowDto> lastPreviews = new HashMap<>();
+        for (CommentRowDto preview : previews) {
+            CommentReplyDto parent = page.get(preview.getParentCommentId());
+            if (parent != null) {
+                parent.setReplyCount(preview.getReplyCount());
+                parent.getReplies().add(toReplyDTO(preview, userId));
+                lastPreviews.put(preview.getParentCommentId(), preview);
+            }
+        }
+        // 미리보기로 보낸 답글 다음부터 이어서 조회하도록 커서를 붙임
+        lastPreviews.forEach((parentId, lastPreview) -> {
+            CommentReplyDto parent = page.get(parentId);
+            if (parent.getReplyCount() > parent.getReplies().size()) {
+                parent.setRepliesCursor(CommentCursor.of(lastPreview));
+            }
+        });
+        return new ArrayList<>(page.values());
+    }
+
+    public static CommentReplyDto toDTO(CommentRowDto row, Long userId) {
+        return CommentReplyDto.builder()
+                .isEdit(row.getUserId().equals(userId))
+                .userId(row.getUserId())
+                .profileUrl(row.getProfileImage())
+                .name(row.getNickname())
+                .commentId(row.getCommentId())
+                .comment(row.getCommentText())
+                .replies(new ArrayList<>())
+                .build();
+    }
+
+    public static ReplyDto toReplyDTO(CommentRowDto row, Long userId) {
+        return ReplyDto.builder()
+                .isEdit(row.getUserId().equals(userId))
+                .userId(row.getUserId())
+                .profileUrl(row.getProfileImage())
+                .name(row.getNickname())
+                .commentId(row.getCommentId())
+                .comment(row.getCommentText())
+                .build();
+    }
 }
@@ -16,5 +16,9 @@ public class CommentReplyDto {
     private long commentId;
     private boolean isEdit;
     private String comment;
+    // 전체 답글 수, replies 에는 앞쪽 일부만 담김
+    private long replyCount;
     private List<ReplyDto> replies;
+    // 미리보기 뒤에 답글이 더 있으면 답글 목록을 이어서 조회할 커서, 없으면 null
+    private String repliesCursor;
 }
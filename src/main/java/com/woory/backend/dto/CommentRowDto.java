@@ -0,0 +1,25 @@
+package com.woory.backend.dto;
+
+import java.util.Date;
+
+/**
+ * 댓글 한 줄과 작성자 정보
+ * 답글 미리보기 조회에서는 부모 댓글의 전체 답글 수(replyCount)도 함께 담긴다.
+ */
+public interface CommentRowDto {
+	Long getCommentId();
+
+	Long getParentCommentId();
+
+	Long getUserId();
+
+	String getNickname();
+
+	String getProfileImage();
+
+	String getCommentText();
+
+	Date getCommentDate();
+
+	Long getReplyCount();
+}
@@ -22,6 +22,8 @@ public class ContentDto {
 	private Long contentId;
 	private String contentText;
 	private String contentImgPath;
+	private String contentThumbnailPath;
+	private String contentPreviewPath;
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
 	private Date contentRegDate;
 	private boolean IsFavorite;
@@ -31,4 +33,11 @@ public class ContentDto {
 		this.contentRegDate = contentRegDate;
 		IsFavorite = isFavorite;
 	}
+
+	public ContentDto(String contentImgPath, String contentThumbnailPath, String contentPreviewPath,
+		Date contentRegDate, boolean isFavorite) {
+		this(contentImgPath, contentRegDate, isFavorite);
+		this.contentThumbnailPath = contentThumbnailPath;
+		this.contentPreviewPath = contentPreviewPath;
+	}
 }
@@ -0,0 +1,13 @@
+package com.woory.backend.dto;
+
+public interface ContentImageDto {
+	Long getContentId();
+
+	Long getTopicId();
+
+	String getContentImgPath();
+
+	String getContentThumbnailPath();
+
+	String getContentPreviewPath();
+}
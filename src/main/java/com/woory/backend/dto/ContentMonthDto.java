@@ -1,11 +0,0 @@
-package com.woory.backend.dto;
-
-public interface ContentMonthDto {
-	Long getTopicId();
-
-	String getContentImgPath();
-
-	String getContentRegDate();
-
-	boolean getIsFavorite();
-}
@@ -1,6 +1,7 @@
 package com.woory.backend.dto;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.stream.Collectors;
 
 import com.amazonaws.transform.MapEntry;
 import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.ContentReactionCount;
 import com.woory.backend.entity.ReactionType;
 
 import lombok.AllArgsConstructor;
@@ -65,6 +67,14 @@ public class ContentReactionDto {
 		return ret;
 	}
 
+	public static List<ForStatistics> toReactionForStatistics(List<ContentReactionCount> counts,
+		ReactionType myReaction) {
+		return counts.stream()
+			.sorted(Comparator.comparing(ContentReactionCount::getReaction))
+			.map(count -> new ForStatistics(count.getReaction(), count.getCount(), count.getReaction() == myReaction))
+			.toList();
+	}
+
 	@Getter
 	@NoArgsConstructor
 	@AllArgsConstructor
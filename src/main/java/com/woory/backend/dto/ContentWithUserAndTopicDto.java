@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.woory.backend.entity.Content;
 import com.woory.backend.entity.Topic;
 import com.woory.backend.entity.User;
+import com.woory.backend.utils.DateUtil;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -46,7 +47,7 @@ public class ContentWithUserAndTopicDto {
 			.profileUrl(profileImage)
 			.contentImgPath(content.getContentImgPath())
 			.contentText(content.getContentText())
-			.contentRegDate(content.getContentRegDate())
+			.contentRegDate(DateUtil.toDate(content.getContentRegDate()))
 			.IsEdit(userId1.equals(curUserId))
 			.build();
 
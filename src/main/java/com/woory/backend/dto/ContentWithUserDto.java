@@ -1,11 +1,13 @@
 package com.woory.backend.dto;
 
+import java.time.Instant;
 import java.util.Date;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.woory.backend.entity.Content;
 import com.woory.backend.entity.User;
+import com.woory.backend.utils.DateUtil;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,6 +34,13 @@ public class ContentWithUserDto {
 	private Integer commentsCount;
 	private Integer reactionCount;
 
+	// JPQL 프로젝션용, count 결과가 Long 으로 들어옴
+	public ContentWithUserDto(Long userId, String name, String profileUrl, boolean isEdit, Long contentId,
+		String contentText, String contentImgPath, Instant contentRegDate, Long commentsCount, Long reactionCount) {
+		this(userId, name, profileUrl, isEdit, contentId, contentText, contentImgPath, DateUtil.toDate(contentRegDate),
+			commentsCount.intValue(), reactionCount.intValue());
+	}
+
 	public static ContentWithUserDto toContentWithUserDto(Long userId, Content content) {
 		User user = content.getUsers();
 		Long contentUserId = user.getUserId();
@@ -46,7 +55,7 @@ public class ContentWithUserDto {
 			.contentId(content.getContentId())
 			.contentImgPath(content.getContentImgPath())
 			.contentText(content.getContentText())
-			.contentRegDate(content.getContentRegDate())
+			.contentRegDate(DateUtil.toDate(content.getContentRegDate()))
 			.IsEdit(userId.equals(contentUserId))
 			.commentsCount(commentsCount)
 			.reactionCount(size)
@@ -3,6 +3,7 @@ package com.woory.backend.dto;
 import java.util.Date;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.woory.backend.entity.Content;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,8 @@ public class FavoriteDto {
 	private Long topicId;
 	private Date issueDate;
 	private String contentImg;
+	private String contentThumbnailImg;
+	private String contentPreviewImg;
 	private String topicText;
 
 	public FavoriteDto(Long topicId, Date issueDate, String contentImg, String topicText) {
@@ -22,4 +25,12 @@ public class FavoriteDto {
 		this.contentImg = contentImg;
 		this.topicText = topicText;
 	}
+
+	public FavoriteDto(Long topicId, Date issueDate, Content content, String topicText) {
+		this(topicId, issueDate, content == null ? null : content.getContentImgPath(), topicText);
+		if (content != null) {
+			this.contentThumbnailImg = content.getContentThumbnailPath();
+			this.contentPreviewImg = content.getContentPreviewPath();
+		}
+	}
 }
@@ -4,6 +4,7 @@ import java.util.Date;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.woory.backend.entity.Notification;
 import com.woory.backend.entity.NotificationType;
 
 import lombok.Builder;
@@ -55,4 +56,29 @@ public class NotificationResponseDto {
 			.issueDate(n.getIssueDate())
 			.build();
 	}
+
+	// 스트림으로 바로 내보낼 때 사용, 목록 조회 응답과 같은 모양으로 만든다
+	public static NotificationResponseDto fromNotification(Notification n) {
+		NotificationResponseDtoBuilder builder = NotificationResponseDto.builder()
+			.notificationId(n.getId())
+			.notificationType(n.getNotificationType())
+			.issueDate(n.getIssueDate());
+
+		if (n.getNotificationType() == NotificationType.TOPIC) {
+			return builder.topicId(n.getTopicId())
+				.topicDate(n.getTopicDate())
+				.topicTitle(n.getTopicTitle())
+				.build();
+		}
+
+		if (n.getNotificationType() == NotificationType.CONTENT) {
+			return builder.contentUser(n.getAuthor())
+				.contentId(n.getContentId())
+				.build();
+		}
+
+		return builder.contentId(n.getContentId())
+			.reactionUser(n.getAuthor())
+			.build();
+	}
 }
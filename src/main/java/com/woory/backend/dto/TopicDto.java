@@ -6,6 +6,7 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.woory.backend.entity.Topic;
 import com.woory.backend.entity.TopicSet;
+import com.woory.backend.utils.DateUtil;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,7 +45,7 @@ public class TopicDto {
 			.topicId(topic.getTopicId())
 			.IsFavorite(isFavorite)
 			.topicByte(topic.getTopicByte())
-			.issueDate(topic.getIssueDate())
+			.issueDate(DateUtil.toDate(topic.getIssueDate()))
 			.hasNextDay(hasNextDay)
 			.hasPrevDay(hasPrevDay)
 			.contents(
@@ -58,12 +59,42 @@ public class TopicDto {
 			.build();
 	}
 
+	public static TopicDto fromTopicHeaderWithContents(TopicHeaderDto header, boolean hasPrevDay,
+		List<ContentWithUserDto> contents) {
+		return TopicDto.builder()
+			.topicContent(header.getTopicContent())
+			.topicId(header.getTopicId())
+			.IsFavorite(header.isFavorite())
+			.topicByte(header.getTopicByte())
+			.issueDate(DateUtil.toDate(header.getIssueDate()))
+			.hasNextDay(header.isHasNextDay())
+			.hasPrevDay(hasPrevDay)
+			.contents(contents)
+			.IsPosted(contents.stream().anyMatch(ContentWithUserDto::isIsEdit))
+			.build();
+	}
+
+	// 방금 만들어진 토픽은 글이 없음
+	public static TopicDto fromTopicWithoutContents(Topic topic, boolean hasPrevDay, boolean hasNextDay) {
+		return TopicDto.builder()
+			.topicContent(topic.getTopicContent())
+			.topicId(topic.getTopicId())
+			.IsFavorite(false)
+			.topicByte(topic.getTopicByte())
+			.issueDate(DateUtil.toDate(topic.getIssueDate()))
+			.hasNextDay(hasNextDay)
+			.hasPrevDay(hasPrevDay)
+			.contents(List.of())
+			.IsPosted(false)
+			.build();
+	}
+
 	public static TopicDto fromTopic(Topic topic) {
 		return TopicDto.builder()
 			.topicContent(topic.getTopicContent())
 			.topicByte(topic.getTopicByte())
 			.topicId(topic.getTopicId())
-			.issueDate(topic.getIssueDate())
+			.issueDate(DateUtil.toDate(topic.getIssueDate()))
 			.build();
 	}
 }
@@ -0,0 +1,27 @@
+package com.woory.backend.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 하루 피드 조회 시 그룹 가입 여부, 그날의 토픽, 다음날 토픽 존재 여부, 즐겨찾기 여부를 한 번에 담는 결과
+ * 해당 날짜의 토픽이 아직 없으면 topicId 는 null
+ */
+@Getter
+@AllArgsConstructor
+public class TopicHeaderDto {
+	private Long groupUserId;
+	private LocalDate groupRegDate;
+	private Long topicId;
+	private String topicContent;
+	private Integer topicByte;
+	private LocalDate issueDate;
+	private boolean hasNextDay;
+	private boolean isFavorite;
+
+	public boolean hasTopic() {
+		return topicId != null;
+	}
+}
@@ -14,7 +14,13 @@ import java.util.*;
 @Getter
 @Setter
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+	// 게시물의 댓글 목록, 댓글의 답글 목록 keyset 페이지네이션용
+	@Index(name = "idx_comment_content_parent_date", columnList = "content_id, parent_comment_id, comment_date, comment_id"),
+	@Index(name = "idx_comment_parent_date", columnList = "parent_comment_id, comment_date, comment_id"),
+	// 그룹에서 사용자가 쓴 댓글 조회
+	@Index(name = "idx_comment_user_content", columnList = "user_id, content_id")
+})
 public class Comment {
 
 	@Id
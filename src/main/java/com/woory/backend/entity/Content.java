@@ -6,8 +6,11 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -18,7 +21,12 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
-@Table(name = "content")
+@Table(name = "content", indexes = {
+	// 하루 피드의 글 목록 (토픽별 작성 순)
+	@Index(name = "idx_content_topic_reg_date", columnList = "topic_id, content_reg_date"),
+	// 사용자가 쓴 글의 토픽 조회
+	@Index(name = "idx_content_user_topic", columnList = "userid, topic_id")
+})
 public class Content {
 
 	@Id
@@ -26,7 +34,12 @@ public class Content {
 	private Long contentId;
 	private String contentText;
 	private String contentImgPath;
-	private Date contentRegDate;
+	// 원본 이미지에서 만든 작은 썸네일과 미리보기, 만들어지기 전에는 null
+	private String contentThumbnailPath;
+	private String contentPreviewPath;
+	// 이 컬럼만 서버 시간대와 상관없이 UTC 로 저장 (기존 값은 V8 마이그레이션에서 옮김)
+	@JdbcTypeCode(SqlTypes.TIMESTAMP_UTC)
+	private Instant contentRegDate;
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "topicId")
@@ -43,6 +56,10 @@ public class Content {
 	@Builder.Default
 	@OneToMany(mappedBy = "content", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<ContentReaction> contentReactions = new ArrayList<>();
+
+	@Builder.Default
+	@OneToMany(mappedBy = "content", cascade = CascadeType.ALL, orphanRemoval = true)
+	private List<ContentReactionCount> contentReactionCounts = new ArrayList<>();
 }
 
 
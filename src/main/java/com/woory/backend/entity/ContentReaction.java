@@ -7,7 +7,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "content_reactions")
+@Table(name = "content_reactions", uniqueConstraints = {
+    // 한 사용자는 게시물마다 리액션 하나, 내가 누른 리액션 조회에도 사용
+    @UniqueConstraint(name = "uk_content_reactions_content_user", columnNames = {"content_id", "user_id"})
+}, indexes = {
+    // 추방, 탈퇴 시 사용자의 리액션 조회
+    @Index(name = "idx_content_reactions_user", columnList = "user_id, content_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
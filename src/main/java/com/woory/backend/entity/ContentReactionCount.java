@@ -0,0 +1,38 @@
+package com.woory.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물별 리액션 종류마다 누른 사람 수
+ * 리액션을 추가, 변경, 취소할 때 같은 트랜잭션에서 함께 갱신한다.
+ */
+@Entity
+@Table(name = "content_reaction_count", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_content_reaction_count", columnNames = {"content_id", "reaction"})
+})
+@Getter
+@NoArgsConstructor
+public class ContentReactionCount {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "content_id", nullable = false)
+	private Content content;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "reaction", nullable = false)
+	private ReactionType reaction;
+
+	@Column(name = "reaction_count", nullable = false)
+	private long count;
+
+	public ContentReactionCount(Content content, ReactionType reaction, long count) {
+		this.content = content;
+		this.reaction = reaction;
+		this.count = count;
+	}
+}
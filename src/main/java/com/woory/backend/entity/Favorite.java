@@ -5,14 +5,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "favorite", indexes = {
+	// 즐겨찾기 여부 확인, 달력의 즐겨찾기 토픽 조회
+	@Index(name = "idx_favorite_group_user_topic", columnList = "group_user_id, topic_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
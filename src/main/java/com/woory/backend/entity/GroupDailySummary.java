@@ -0,0 +1,58 @@
+package com.woory.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹의 하루 요약 (달력 한 칸)
+ * 글이 작성, 수정, 삭제되면 커밋 이후 그날 토픽의 글로 다시 계산한다.
+ * 대표 이미지는 경로 대신 글 id 를 두어 나중에 만들어지는 썸네일도 그대로 보이게 한다.
+ */
+@Entity
+@Table(name = "group_daily_summary", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_group_daily_summary_group_day", columnNames = {"group_id", "summary_day"})
+}, indexes = {
+	@Index(name = "idx_group_daily_summary_topic", columnList = "topic_id")
+})
+@NoArgsConstructor
+@Getter
+public class GroupDailySummary {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "group_id", nullable = false)
+	private Long groupId;
+
+	@Column(nullable = false)
+	private LocalDate summaryDay;
+
+	@Column(name = "topic_id", nullable = false)
+	private Long topicId;
+
+	// 그날 처음 이미지를 올린 글, 이미지가 없으면 첫 글
+	private Long coverContentId;
+
+	private int postCount;
+
+	public GroupDailySummary(Long groupId, LocalDate summaryDay, Long topicId) {
+		this.groupId = groupId;
+		this.summaryDay = summaryDay;
+		this.topicId = topicId;
+	}
+
+	public void update(Long coverContentId, int postCount) {
+		this.coverContentId = coverContentId;
+		this.postCount = postCount;
+	}
+}
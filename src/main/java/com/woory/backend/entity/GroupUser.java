@@ -11,7 +11,11 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "group_user")
+@Table(name = "group_user", indexes = {
+    // 멤버십 확인과 내 그룹 목록, 그룹 멤버 목록 (V2 마이그레이션)
+    @Index(name = "idx_group_user_user_group", columnList = "user_id, group_id"),
+    @Index(name = "idx_group_user_group_reg_date", columnList = "group_id, reg_date")
+})
 public class GroupUser {
 
     @Id
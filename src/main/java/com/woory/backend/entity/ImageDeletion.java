@@ -0,0 +1,84 @@
+package com.woory.backend.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제해야 할 S3 이미지 (outbox)
+ * 게시물 변경과 같은 트랜잭션에서 저장되고, 커밋된 뒤 ImageDeletionService 가 모아서 삭제한다.
+ * 여러 서버가 같은 항목을 동시에 처리하지 않도록 처리 전에 claimedBy 로 선점한다.
+ */
+@Entity
+@Table(name = "image_deletion", indexes = {
+	@Index(name = "idx_image_deletion_status_next", columnList = "status, next_attempt_at, image_deletion_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class ImageDeletion {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "image_deletion_id")
+	private Long id;
+
+	@Column(length = 1024, nullable = false)
+	private String imagePath;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private ImageDeletionStatus status;
+
+	private int attempts;
+
+	private Date nextAttemptAt;
+
+	@Column(length = 1024)
+	private String lastError;
+
+	private Date createdAt;
+
+	// 선점한 처리 작업의 식별자, 선점 중에는 nextAttemptAt 이 선점 만료 시각이 됨
+	@Column(length = 36)
+	private String claimedBy;
+
+	public static ImageDeletion of(String imagePath) {
+		Date now = new Date();
+		return ImageDeletion.builder()
+			.imagePath(imagePath)
+			.status(ImageDeletionStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build();
+	}
+
+	// 실패 횟수에 따라 다음 시도를 미루고, 최대 횟수를 넘기면 DEAD 로 남김
+	public void fail(String error, int maxAttempts, long backoffMillis) {
+		attempts++;
+		lastError = error == null || error.length() <= 1024 ? error : error.substring(0, 1024);
+		if (attempts >= maxAttempts) {
+			status = ImageDeletionStatus.DEAD;
+			return;
+		}
+		nextAttemptAt = new Date(System.currentTimeMillis() + backoffMillis * (1L << Math.min(attempts - 1, 10)));
+	}
+
+	public void dead(String error) {
+		lastError = error;
+		status = ImageDeletionStatus.DEAD;
+	}
+}
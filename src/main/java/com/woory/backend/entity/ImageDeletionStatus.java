@@ -0,0 +1,7 @@
+package com.woory.backend.entity;
+
+public enum ImageDeletionStatus {
+	PENDING,
+	// 재시도 횟수를 넘겨 더 이상 처리하지 않는 항목
+	DEAD
+}
@@ -0,0 +1,39 @@
+package com.woory.backend.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * /v1/images 로 미리 올린 이미지
+ * 업로드한 사용자에게 uploadId 를 주고, 게시물/프로필에 붙일 때는 그 사용자가 올렸고 아직 붙이지 않은 것만 받는다.
+ * 다른 사람의 이미지 주소를 가져다 쓰고 지워 원래 주인의 이미지가 삭제되는 일을 막는다.
+ */
+@Entity
+@Table(name = "image_upload")
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class ImageUpload {
+	@Id
+	@Column(length = 36)
+	private String uploadId;
+
+	@Column(length = 1024, nullable = false)
+	private String imagePath;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	private boolean attached;
+
+	private Date createdAt;
+}
@@ -0,0 +1,78 @@
+package com.woory.backend.entity;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카카오 연결 끊기 대기열 (outbox)
+ * 회원 탈퇴와 같은 트랜잭션에서 저장되고, 커밋된 뒤 KakaoUnlinkService 가 보낸다. 성공하면 지운다.
+ */
+@Entity
+@Table(name = "kakao_unlink", indexes = {
+	@Index(name = "idx_kakao_unlink_status_next", columnList = "status, next_attempt_at, kakao_unlink_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class KakaoUnlink {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "kakao_unlink_id")
+	private Long id;
+
+	@Column(nullable = false)
+	private String kakaoId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private KakaoUnlinkStatus status;
+
+	private int attempts;
+
+	private Date nextAttemptAt;
+
+	@Column(length = 1024)
+	private String lastError;
+
+	private Date createdAt;
+
+	// 선점한 처리 작업의 식별자, 선점 중에는 nextAttemptAt 이 선점 만료 시각이 됨
+	@Column(length = 36)
+	private String claimedBy;
+
+	// 커밋 직후 바로 한 번 보내므로, 대기열에서는 그 호출이 끝날 시간만큼 미뤄 둠
+	public static KakaoUnlink of(String kakaoId, Date nextAttemptAt) {
+		return KakaoUnlink.builder()
+			.kakaoId(kakaoId)
+			.status(KakaoUnlinkStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(nextAttemptAt)
+			.createdAt(new Date())
+			.build();
+	}
+
+	// 실패 횟수에 따라 다음 시도를 미루고, 최대 횟수를 넘기면 DEAD 로 남김
+	public void fail(String error, int maxAttempts, long backoffMillis) {
+		attempts++;
+		lastError = error == null || error.length() <= 1024 ? error : error.substring(0, 1024);
+		if (attempts >= maxAttempts) {
+			status = KakaoUnlinkStatus.DEAD;
+			return;
+		}
+		nextAttemptAt = new Date(System.currentTimeMillis() + backoffMillis * (1L << Math.min(attempts - 1, 10)));
+	}
+}
@@ -9,6 +9,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(name = "notification", indexes = {
+	// 알림 목록 keyset 페이지네이션용 (그룹 알림 / 개인 알림)
+	@Index(name = "idx_notification_group_issue", columnList = "group_id, issue_date, notification_id"),
+	@Index(name = "idx_notification_user_issue", columnList = "user_id, issue_date, notification_id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -61,6 +68,9 @@ public class Notification {
 	@Temporal(TemporalType.TIMESTAMP)
 	private Date issueDate;
 
+	// 알림 생성 시점의 작성자 닉네임
+	private String author;
+
 	// 토픽 생성 시
 	public static Notification fromCreatingTopic(Long groupId, Long topicId, Date topicDate, String topicTitle, Date now) {
 		return Notification.builder()
@@ -74,21 +84,25 @@ public class Notification {
 	}
 
 	// 새 글 생성 시
-	public static Notification fromCreatingContent(Long groupId, Long contentUserId, Long contentId, Date now) {
+	public static Notification fromCreatingContent(Long groupId, Long contentUserId, String author, Long contentId,
+		Date now) {
 		return Notification.builder()
 			.groupId(groupId)
 			.contentUserId(contentUserId)
+			.author(author)
 			.contentId(contentId)
 			.notificationType(NotificationType.CONTENT)
 			.issueDate(now)
 			.build();
 	}
 
-	public static Notification fromCreatingComment(Long groupId, Long contentId, Long commentUserId, Long commentId, Long userId, Date now) {
+	public static Notification fromCreatingComment(Long groupId, Long contentId, Long commentUserId, String author,
+		Long commentId, Long userId, Date now) {
 		return Notification.builder()
 			.groupId(groupId)
 			.contentId(contentId) // 원 글로 이동하기 위한 게시글 아이디
 			.commentUserId(commentUserId) // 댓글 작성자
+			.author(author)
 			.commentId(commentId)
 			.userId(userId) // 원 글 작성자
 			.notificationType(NotificationType.REACTION_COMMENT)
@@ -96,11 +110,13 @@ public class Notification {
 			.build();
 	}
 
-	public static Notification fromCreatingReply(Long groupId, Long contentId, Long replyUserId, Long replyId, Long userId, Date now) {
+	public static Notification fromCreatingReply(Long groupId, Long contentId, Long replyUserId, String author,
+		Long replyId, Long userId, Date now) {
 		return Notification.builder()
 			.groupId(groupId)
 			.contentId(contentId) // 원 글로 이동하기 위한 게시글 아이디
 			.replyUserId(replyUserId) // 답글 작성자
+			.author(author)
 			.replyId(replyId)
 			.userId(userId) // 원 댓글 작성자
 			.notificationType(NotificationType.REACTION_REPLY)
@@ -108,16 +124,17 @@ public class Notification {
 			.build();
 	}
 
-	public static Notification fromCreatingEmoji(Long groupId, Long contentId, Long reactionUserId, Long reactionId, Long userId, Date now) {
+	public static Notification fromCreatingEmoji(Long groupId, Long contentId, Long reactionUserId, String author,
+		Long reactionId, Long userId, Date now) {
 		return Notification.builder()
 			.groupId(groupId)
 			.contentId(contentId)
 			.reactionUserId(reactionUserId) // 반응 작성자
+			.author(author)
 			.reactionId(reactionId)
 			.userId(userId) // 원 글 작성자
 			.notificationType(NotificationType.REACTION_EMOJI)
 			.issueDate(now)
 			.build();
 	}
-
 }
@@ -3,8 +3,8 @@ package com.woory.backend.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 @Builder
@@ -13,7 +13,13 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "topic")
+@Table(name = "topic", uniqueConstraints = {
+	// 그룹별 하루 토픽은 하나
+	@UniqueConstraint(name = "uk_topic_group_issue_date", columnNames = {"group_id", "issue_date"})
+}, indexes = {
+	// 날짜별 토픽을 topic_id 순으로 나눠 읽기 위함
+	@Index(name = "idx_topic_issue_date", columnList = "issue_date")
+})
 public class Topic {
 
 	@Id
@@ -24,9 +30,9 @@ public class Topic {
 	@Column(name = "topicContent")
 	private String topicContent;
 
-	@Temporal(TemporalType.DATE)
+	// 한국 시간 기준 날짜
 	@Column(name = "issueDate")
-	private Date issueDate;
+	private LocalDate issueDate;
 
 	private int topicByte;
 
@@ -42,7 +48,7 @@ public class Topic {
 	@OrderBy("contentRegDate asc")
 	private List<Content> content = new ArrayList<>();
 
-	public static Topic fromTopicSetWithDateAndGroup(Group group, TopicSet topicSet, Date date) {
+	public static Topic fromTopicSetWithDateAndGroup(Group group, TopicSet topicSet, LocalDate date) {
 		return Topic.builder().group(group)
 			.issueDate(date)
 			.topicByte(topicSet.getTopic_byte())
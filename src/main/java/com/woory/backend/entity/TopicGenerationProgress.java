@@ -0,0 +1,48 @@
+package com.woory.backend.entity;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 날짜별 토픽 생성 작업 진행 상황
+ * lastGroupId 까지의 그룹은 토픽 생성이 끝났으므로 재시작 시 그 다음 그룹부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "topic_generation_progress")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopicGenerationProgress {
+	@Id
+	private LocalDate issueDate;
+
+	// 재시작해도 같은 토픽으로 이어서 만들기 위해 저장
+	private Long topicSetId;
+
+	private Long lastGroupId;
+
+	private boolean completed;
+
+	private Date updatedAt;
+
+	public static TopicGenerationProgress start(LocalDate issueDate, Long topicSetId) {
+		return TopicGenerationProgress.builder()
+			.issueDate(issueDate)
+			.topicSetId(topicSetId)
+			.lastGroupId(0L)
+			.completed(false)
+			.updatedAt(new Date())
+			.build();
+	}
+}
@@ -11,12 +11,15 @@ public enum ErrorCode {
 	ERROR_SAVING_FILE(500, "COMMON_006", "파일 저장중 문제가 발생했습니다."),
 	ERROR_DELETING_FILE(500, "COMMON_007", "파일 삭제중 문제가 발생했습니다."),
 	USER_NOT_FOUND_IN_GROUP(404, "COMMON_008", "가족에서 사용자를 찾을수 없습니다."),
+	FILE_LENGTH_REQUIRED(411, "COMMON_009", "파일 크기(Content-Length)를 알 수 없습니다."),
+	INVALID_IMAGE_UPLOAD(400, "COMMON_010", "직접 올린 이미지만 사용할 수 있습니다."),
 	// CommentService,
 	USER_BANNED_OR_NON_MEMBER(403, "COMMENT_002", "가족에 속한 사용자가 아닙니다."),
 	COMMENT_NOT_FOUND(404, "COMMENT_003", "해당 댓글을 찾을 수 없습니다."),
 	REPLY_TO_REPLY_NOT_ALLOWED(400, "COMMENT_004", "대댓글에 대댓글은 할 수 없습니다."),
 	NOT_COMMENT_AUTHOR(403, "COMMENT_005", "해당 댓글을 삭제할 권한이 없습니다."),
 	PARENT_COMMENT_NOT_FOUND(404, "COMMENT_006", "부모 댓글을 찾을 수 없습니다."),
+	INVALID_CURSOR(400, "COMMENT_007", "잘못된 커서입니다."),
 
 	TOPIC_NOT_FOUND(404, "TOPIC_001", "토픽 세트를 찾을 수 없습니다."),
 	CAN_NOT_POST_AFTER_DAY(403, "CONTENT_009", "토픽 생성일이 지난 후에는 글을 생성할 수 없습니다."),
@@ -18,12 +18,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.woory.backend.domain.TokenStatus;
+import com.woory.backend.domain.VerifiedToken;
 import com.woory.backend.dto.CustomOAuth2User;
 import com.woory.backend.dto.UserDto;
 import com.woory.backend.utils.JWTUtil;
 import com.woory.backend.utils.JsonUtil;
-import com.woory.backend.utils.SecurityUtil;
+import com.woory.backend.utils.OAuthCodeStore;
+import com.woory.backend.utils.VerifiedTokenCache;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -36,9 +37,13 @@ import lombok.extern.slf4j.Slf4j;
 public class JWTFilter extends OncePerRequestFilter {
 
 	private final JWTUtil jwtUtil;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final OAuthCodeStore oAuthCodeStore;
 
-	public JWTFilter(JWTUtil jwtUtil) {
+	public JWTFilter(JWTUtil jwtUtil, VerifiedTokenCache verifiedTokenCache, OAuthCodeStore oAuthCodeStore) {
 		this.jwtUtil = jwtUtil;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.oAuthCodeStore = oAuthCodeStore;
 	}
 
 	@Override
@@ -48,7 +53,7 @@ public class JWTFilter extends OncePerRequestFilter {
 		String requestURI = request.getRequestURI();
 		if (requestURI.startsWith("/auth/naver") || requestURI.startsWith("/auth/kakao")) {
 			String code = request.getParameter("code");
-			CustomOAuth2User userByCode = SecurityUtil.getUserByCode(code);
+			CustomOAuth2User userByCode = oAuthCodeStore.consume(code).orElse(null);
 
 			if (userByCode == null) {
 				response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -87,18 +92,18 @@ public class JWTFilter extends OncePerRequestFilter {
 		accessToken = accessToken.split("Bearer ")[1];
 		// 이미 AccessToken 발급된 상황
 		// Authorization => 헤더가 있으면 Bearer ${AccessToken} 검증
-		if (jwtUtil.validateAccessToken(accessToken) == TokenStatus.IS_EXPIRED) {
+		// 같은 토큰은 캐시에서 꺼내 쓰고, 만료되었거나 잘못된 토큰은 인증 없이 통과
+		Optional<VerifiedToken> verifiedToken = verifiedTokenCache.get(accessToken);
+		if (verifiedToken.isEmpty()) {
 			filterChain.doFilter(request, response);
 			return;
 		}
 
-		long userId = jwtUtil.getUserId(accessToken);
-		List<? extends GrantedAuthority> authorities = jwtUtil.getAuthorities(accessToken);
-
 		UserDto us = UserDto.builder()
-			.userId(userId)
+			.userId(verifiedToken.get().getUserId())
 			.build();
 		CustomOAuth2User customOAuth2User = new CustomOAuth2User(us);
+		List<? extends GrantedAuthority> authorities = verifiedToken.get().getAuthorities();
 		SecurityContextHolder.getContext()
 			.setAuthentication(new UsernamePasswordAuthenticationToken(customOAuth2User, null, authorities));
 		filterChain.doFilter(request, response);
@@ -0,0 +1,117 @@
+package com.woory.backend.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 이미 있는지 확인한 뒤에만 테이블/컬럼/인덱스/유니크 제약을 만드는 마이그레이션 도우미
+ * 기존 DB 에는 ddl-auto 로 일부가 먼저 만들어져 있을 수 있고, MySQL 은 컬럼/인덱스에 IF NOT EXISTS 를 쓸 수 없어서
+ * JDBC 메타데이터로 확인한다.
+ */
+final class SchemaChanges {
+
+	private final Connection connection;
+	private final DatabaseMetaData metaData;
+
+	SchemaChanges(Connection connection) throws SQLException {
+		this.connection = connection;
+		this.metaData = connection.getMetaData();
+	}
+
+	void createTable(String table, String ddl) throws SQLException {
+		if (!hasTable(table)) {
+			execute(ddl);
+		}
+	}
+
+	void addColumn(String table, String column, String definition) throws SQLException {
+		if (!hasColumn(table, column)) {
+			execute("alter table " + table + " add column " + column + " " + definition);
+		}
+	}
+
+	void createIndex(String table, String index, String... columns) throws SQLException {
+		if (!hasIndex(table, index)) {
+			execute("create index " + index + " on " + table + " (" + String.join(", ", columns) + ")");
+		}
+	}
+
+	// ddl-auto 가 만든 제약은 이름이 다를 수 있으므로 같은 컬럼의 유니크 인덱스가 있는지로 확인
+	void addUniqueKey(String table, String name, String... columns) throws SQLException {
+		if (!hasUniqueKey(table, columns)) {
+			execute("alter table " + table + " add constraint " + name + " unique (" + String.join(", ", columns) + ")");
+		}
+	}
+
+	void execute(String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private boolean hasTable(String table) throws SQLException {
+		try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), table,
+			new String[] {"TABLE"})) {
+			while (tables.next()) {
+				if (tables.getString("TABLE_NAME").equalsIgnoreCase(table)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean hasColumn(String table, String column) throws SQLException {
+		try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), table, null)) {
+			while (columns.next()) {
+				if (columns.getString("TABLE_NAME").equalsIgnoreCase(table)
+					&& columns.getString("COLUMN_NAME").equalsIgnoreCase(column)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean hasIndex(String table, String index) throws SQLException {
+		try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false,
+			true)) {
+			while (indexes.next()) {
+				if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean hasUniqueKey(String table, String... columns) throws SQLException {
+		Set<String> expected = lowerCase(columns);
+		Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+		try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true,
+			true)) {
+			while (indexes.next()) {
+				String index = indexes.getString("INDEX_NAME");
+				String column = indexes.getString("COLUMN_NAME");
+				if (index != null && column != null) {
+					uniqueIndexes.computeIfAbsent(index, key -> new TreeSet<>()).add(column.toLowerCase());
+				}
+			}
+		}
+		return uniqueIndexes.containsValue(expected);
+	}
+
+	private static Set<String> lowerCase(String... columns) {
+		Set<String> result = new TreeSet<>();
+		Arrays.stream(columns).map(String::toLowerCase).forEach(result::add);
+		return result;
+	}
+}
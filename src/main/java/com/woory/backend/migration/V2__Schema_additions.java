@@ -0,0 +1,144 @@
+package com.woory.backend.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * V1(Flyway 도입 전 스키마) 이후 추가한 테이블, 컬럼, 인덱스
+ * 기존 DB 에는 ddl-auto 로 일부가 이미 만들어져 있을 수 있으므로 없는 것만 만든다.
+ */
+public class V2__Schema_additions extends BaseJavaMigration {
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		SchemaChanges schema = new SchemaChanges(context.getConnection());
+
+		// 자정 토픽 생성 작업의 진행 상황
+		schema.createTable("topic_generation_progress", "create table topic_generation_progress ("
+			+ "issue_date date not null, "
+			+ "topic_set_id bigint, "
+			+ "last_group_id bigint, "
+			+ "completed boolean not null, "
+			+ "updated_at datetime(6), "
+			+ "primary key (issue_date))");
+
+		// 게시물별 리액션 수
+		schema.createTable("content_reaction_count", "create table content_reaction_count ("
+			+ "id bigint not null auto_increment, "
+			+ "content_id bigint not null, "
+			+ "reaction varchar(255) not null, "
+			+ "reaction_count bigint not null, "
+			+ "primary key (id), "
+			+ "constraint uk_content_reaction_count unique (content_id, reaction), "
+			+ "constraint fk_content_reaction_count_content foreign key (content_id) references content (content_id))");
+
+		// 달력의 그룹별 하루 요약
+		schema.createTable("group_daily_summary", "create table group_daily_summary ("
+			+ "id bigint not null auto_increment, "
+			+ "group_id bigint not null, "
+			+ "summary_day date not null, "
+			+ "topic_id bigint not null, "
+			+ "cover_content_id bigint, "
+			+ "post_count integer not null, "
+			+ "primary key (id), "
+			+ "constraint uk_group_daily_summary_group_day unique (group_id, summary_day))");
+		schema.createIndex("group_daily_summary", "idx_group_daily_summary_topic", "topic_id");
+
+		// 삭제할 S3 이미지 대기열
+		schema.createTable("image_deletion", "create table image_deletion ("
+			+ "image_deletion_id bigint not null auto_increment, "
+			+ "image_path varchar(1024) not null, "
+			+ "status varchar(255) not null, "
+			+ "attempts integer not null, "
+			+ "next_attempt_at datetime(6), "
+			+ "last_error varchar(1024), "
+			+ "created_at datetime(6), "
+			+ "primary key (image_deletion_id))");
+		schema.createIndex("image_deletion", "idx_image_deletion_status_next",
+			"status", "next_attempt_at", "image_deletion_id");
+
+		schema.addColumn("content", "content_thumbnail_path", "varchar(255)");
+		schema.addColumn("content", "content_preview_path", "varchar(255)");
+		schema.addColumn("notification", "author", "varchar(255)");
+
+		// 그룹마다 하루에 토픽 하나, 제약이 없던 동안 동시에 만들어진 중복 토픽을 먼저 합침
+		mergeDuplicateTopics(context.getConnection(), schema);
+		schema.addUniqueKey("topic", "uk_topic_group_issue_date", "group_id", "issue_date");
+		schema.createIndex("topic", "idx_topic_issue_date", "issue_date");
+
+		// 댓글 페이지, 답글 미리보기
+		schema.createIndex("comment", "idx_comment_content_parent_date",
+			"content_id", "parent_comment_id", "comment_date", "comment_id");
+		schema.createIndex("comment", "idx_comment_parent_date", "parent_comment_id", "comment_date", "comment_id");
+
+		// 그룹 알림, 내 알림 (커서 순서)
+		schema.createIndex("notification", "idx_notification_group_issue", "group_id", "issue_date", "notification_id");
+		schema.createIndex("notification", "idx_notification_user_issue", "user_id", "issue_date", "notification_id");
+
+		// 리포지토리 조회 조건에 맞춘 인덱스 (QueryPlanTest 에서 실행 계획 확인)
+		// 멤버십 확인, 그룹 유저 조회/삭제 (user_id, group_id)와 내 그룹 목록 (user_id 후 reg_date 정렬)
+		schema.createIndex("group_user", "idx_group_user_user_group", "user_id", "group_id");
+		// 그룹 멤버 목록 (가입 순)
+		schema.createIndex("group_user", "idx_group_user_group_reg_date", "group_id", "reg_date");
+		// 하루 피드의 글 목록 (토픽별 작성 순)
+		schema.createIndex("content", "idx_content_topic_reg_date", "topic_id", "content_reg_date");
+		// 사용자가 쓴 글의 토픽, 토픽에 이미 글을 썼는지 확인
+		schema.createIndex("content", "idx_content_user_topic", "userid", "topic_id");
+		// 회원 추방, 탈퇴 시 사용자의 리액션 조회/삭제
+		schema.createIndex("content_reactions", "idx_content_reactions_user", "user_id", "content_id");
+		// 즐겨찾기 여부 확인, 삭제, 달력의 즐겨찾기 토픽 조회
+		schema.createIndex("favorite", "idx_favorite_group_user_topic", "group_user_id", "topic_id");
+		// 그룹에서 사용자가 쓴 댓글 조회
+		schema.createIndex("comment", "idx_comment_user_content", "user_id", "content_id");
+	}
+
+	// 그룹/날짜마다 가장 먼저 만든 토픽만 남기고, 나머지를 가리키던 행은 남길 토픽으로 옮긴 뒤 지움
+	private void mergeDuplicateTopics(Connection connection, SchemaChanges schema) throws SQLException {
+		Map<Long, Long> keepByDuplicate = new LinkedHashMap<>();
+		try (PreparedStatement statement = connection.prepareStatement("select t.topic_id, k.keep_id from topic t "
+			+ "join (select group_id, issue_date, min(topic_id) as keep_id from topic "
+			+ "group by group_id, issue_date having count(*) > 1) k "
+			+ "on k.group_id = t.group_id and k.issue_date = t.issue_date "
+			+ "where t.topic_id <> k.keep_id");
+			ResultSet duplicates = statement.executeQuery()) {
+			while (duplicates.next()) {
+				keepByDuplicate.put(duplicates.getLong(1), duplicates.getLong(2));
+			}
+		}
+		if (keepByDuplicate.isEmpty()) {
+			return;
+		}
+
+		for (String table : List.of("content", "favorite", "notification", "group_daily_summary")) {
+			try (PreparedStatement statement = connection.prepareStatement(
+				"update " + table + " set topic_id = ? where topic_id = ?")) {
+				for (Map.Entry<Long, Long> entry : keepByDuplicate.entrySet()) {
+					statement.setLong(1, entry.getValue());
+					statement.setLong(2, entry.getKey());
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		}
+		// 합친 뒤 같은 토픽을 두 번 즐겨찾기한 경우는 하나만 남김
+		schema.execute("delete from favorite where group_user_id is not null and favorite_id not in "
+			+ "(select keep.favorite_id from (select min(f.favorite_id) as favorite_id from favorite f where f.group_user_id is not null "
+			+ "group by f.group_user_id, f.topic_id) keep)");
+
+		try (PreparedStatement statement = connection.prepareStatement("delete from topic where topic_id = ?")) {
+			for (Long duplicate : keepByDuplicate.keySet()) {
+				statement.setLong(1, duplicate);
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+}
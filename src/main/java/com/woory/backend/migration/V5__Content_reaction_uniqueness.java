@@ -0,0 +1,21 @@
+package com.woory.backend.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 사용자는 게시물마다 리액션 하나만 남길 수 있도록 유니크 제약을 건다.
+ * 제약이 없던 동안 중복으로 들어간 리액션은 가장 먼저 누른 것만 남기고 지운다.
+ */
+public class V5__Content_reaction_uniqueness extends BaseJavaMigration {
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		SchemaChanges schema = new SchemaChanges(context.getConnection());
+
+		// MySQL 은 삭제 대상 테이블을 서브쿼리에서 바로 읽을 수 없어 파생 테이블로 감쌈
+		schema.execute("delete from content_reactions where id not in (select keep.id from "
+			+ "(select min(cr.id) as id from content_reactions cr group by cr.content_id, cr.user_id) keep)");
+		schema.addUniqueKey("content_reactions", "uk_content_reactions_content_user", "content_id", "user_id");
+	}
+}
@@ -0,0 +1,50 @@
+package com.woory.backend.migration;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 게시물 작성 시각(content_reg_date)을 예전 저장 시간대에서 UTC 로 옮긴다.
+ * 예전 시각이 어느 시간대로 저장됐는지는 마이그레이션을 돌리는 서버의 시간대와 상관없으므로,
+ * legacy_time_zone 플레이스홀더(FLYWAY_LEGACY_TIME_ZONE)로 직접 받고 없으면 실패한다.
+ * 일광 절약 시간이 없는 시간대(예: Asia/Seoul)만 받는다.
+ */
+public class V8__Content_reg_date_to_utc extends BaseJavaMigration {
+
+	static final String LEGACY_TIME_ZONE = "legacy_time_zone";
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		ZoneId zone = legacyZone(context.getConfiguration().getPlaceholders().get(LEGACY_TIME_ZONE));
+		int offsetSeconds = zone.getRules().getOffset(Instant.now()).getTotalSeconds();
+		if (offsetSeconds == 0) {
+			return;
+		}
+		new SchemaChanges(context.getConnection()).execute(
+			"update content set content_reg_date = timestampadd(second, " + -offsetSeconds + ", content_reg_date) "
+				+ "where content_reg_date is not null");
+	}
+
+	static ZoneId legacyZone(String value) {
+		if (value == null || value.isBlank()) {
+			throw new FlywayException("content_reg_date 를 UTC 로 옮기려면 예전 저장 시간대를 "
+				+ "spring.flyway.placeholders." + LEGACY_TIME_ZONE + " (FLYWAY_LEGACY_TIME_ZONE) 로 지정해야 합니다.");
+		}
+		ZoneId zone;
+		try {
+			zone = ZoneId.of(value.trim());
+		} catch (DateTimeException e) {
+			throw new FlywayException("알 수 없는 시간대입니다: " + value, e);
+		}
+		// 시각마다 오프셋이 달라지면 한 번의 update 로 옮길 수 없음
+		if (!zone.getRules().getTransitionRules().isEmpty()) {
+			throw new FlywayException("일광 절약 시간이 있는 시간대는 지원하지 않습니다: " + value);
+		}
+		return zone;
+	}
+}
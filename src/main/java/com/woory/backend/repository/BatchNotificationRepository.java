@@ -0,0 +1,9 @@
+package com.woory.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+public interface BatchNotificationRepository {
+	// (afterTopicId, lastTopicId] 범위의 해당 날짜 토픽마다 토픽 알림 생성
+	public int insertTopicNotifications(LocalDate topicDate, Date issueDate, long afterTopicId, long lastTopicId);
+}
@@ -0,0 +1,41 @@
+package com.woory.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.woory.backend.entity.NotificationType;
+
+@Repository
+public class BatchNotificationRepositoryImpl implements BatchNotificationRepository {
+
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public BatchNotificationRepositoryImpl(DataSource dataSource) {
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+	}
+
+	@Override
+	public int insertTopicNotifications(LocalDate topicDate, Date issueDate, long afterTopicId, long lastTopicId) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("topicDate", java.sql.Date.valueOf(topicDate))
+			.addValue("issueDate", new java.sql.Timestamp(issueDate.getTime()))
+			.addValue("notificationType", NotificationType.TOPIC.name())
+			.addValue("afterTopicId", afterTopicId)
+			.addValue("lastTopicId", lastTopicId);
+		return jdbcTemplate.update(
+			"INSERT INTO notification(group_id, topic_id, topic_title, topic_date, notification_type, issue_date) "
+				+ "SELECT t.group_id, t.topic_id, t.topic_content, t.issue_date, :notificationType, :issueDate "
+				+ "FROM topic t "
+				+ "WHERE t.issue_date = :topicDate AND t.topic_id > :afterTopicId AND t.topic_id <= :lastTopicId",
+			params
+		);
+	}
+}
@@ -1,9 +1,14 @@
 package com.woory.backend.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import com.woory.backend.dto.TopicDto;
+import com.woory.backend.entity.TopicSet;
 
 public interface BatchTopicRepository {
 	public int[] saveAll(List<TopicDto> topics);
+
+	// (afterGroupId, lastGroupId] 범위의 그룹 중 해당 날짜 토픽이 없는 그룹에만 토픽 생성
+	public int insertMissingTopics(TopicSet topicSet, LocalDate issueDate, long afterGroupId, long lastGroupId);
 }
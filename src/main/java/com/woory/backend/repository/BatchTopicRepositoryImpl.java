@@ -1,5 +1,6 @@
 package com.woory.backend.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -7,11 +8,13 @@ import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSourceUtils;
 import org.springframework.stereotype.Repository;
 
 import com.woory.backend.dto.TopicDto;
+import com.woory.backend.entity.TopicSet;
 
 @Repository
 public class BatchTopicRepositoryImpl implements BatchTopicRepository{
@@ -32,4 +35,22 @@ public class BatchTopicRepositoryImpl implements BatchTopicRepository{
 			SqlParameterSourceUtils.createBatch(topics)
 		);
 	}
+
+	@Override
+	public int insertMissingTopics(TopicSet topicSet, LocalDate issueDate, long afterGroupId, long lastGroupId) {
+		// 조회 요청에서 먼저 만들어진 토픽이 있어도 유니크 제약에 걸리지 않도록 없는 그룹만 골라 한 번에 삽입
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("topicContent", topicSet.getValue())
+			.addValue("topicByte", topicSet.getTopic_byte())
+			.addValue("issueDate", java.sql.Date.valueOf(issueDate))
+			.addValue("afterGroupId", afterGroupId)
+			.addValue("lastGroupId", lastGroupId);
+		return jdbcTemplate.update(
+			"INSERT INTO topic(topic_content, issue_date, group_id, topic_byte) "
+				+ "SELECT :topicContent, :issueDate, g.group_id, :topicByte FROM group_table g "
+				+ "WHERE g.group_id > :afterGroupId AND g.group_id <= :lastGroupId "
+				+ "AND NOT EXISTS (SELECT 1 FROM topic t WHERE t.group_id = g.group_id AND t.issue_date = :issueDate)",
+			params
+		);
+	}
 }
@@ -1,10 +1,17 @@
 package com.woory.backend.repository;
 
+import com.woory.backend.dto.CommentRowDto;
 import com.woory.backend.entity.Comment;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +21,63 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
 	List<Comment> findByContent_ContentId(Long contentId);
 
+	// 게시물의 댓글(답글 제외)을 커서 다음부터 작성자 정보와 함께 조회
+	@Query("select c.commentId as commentId, u.userId as userId, u.nickname as nickname, "
+		+ "u.profileImage as profileImage, c.commentText as commentText, c.commentDate as commentDate "
+		+ "from Comment c join c.users u "
+		+ "where c.content.contentId = :contentId and c.parentComment is null "
+		+ "and (c.commentDate > :afterDate or (c.commentDate = :afterDate and c.commentId > :afterId)) "
+		+ "order by c.commentDate asc, c.commentId asc")
+	List<CommentRowDto> findCommentPage(@Param("contentId") Long contentId, @Param("afterDate") Date afterDate,
+		@Param("afterId") Long afterId, Pageable pageable);
+
+	// 댓글마다 앞에서부터 previewSize 개의 답글과 전체 답글 수
+	@Query(value = "SELECT r.comment_id AS commentId, r.parent_comment_id AS parentCommentId, r.user_id AS userId, "
+		+ "u.nickname AS nickname, u.profile_image AS profileImage, r.comment_text AS commentText, "
+		+ "r.comment_date AS commentDate, r.reply_count AS replyCount "
+		+ "FROM (SELECT c.*, "
+		+ "ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.comment_date, c.comment_id) AS rn, "
+		+ "COUNT(*) OVER (PARTITION BY c.parent_comment_id) AS reply_count "
+		+ "FROM comment c WHERE c.parent_comment_id IN (:parentIds)) r "
+		+ "JOIN user u ON u.user_id = r.user_id "
+		+ "WHERE r.rn <= :previewSize "
+		+ "ORDER BY r.parent_comment_id, r.comment_date, r.comment_id", nativeQuery = true)
+	List<CommentRowDto> findReplyPreviews(@Param("parentIds") Collection<Long> parentIds,
+		@Param("previewSize") int previewSize);
+
+	// 답글을 커서 다음부터 조회
+	@Query("select c.commentId as commentId, c.parentComment.commentId as parentCommentId, u.userId as userId, "
+		+ "u.nickname as nickname, u.profileImage as profileImage, c.commentText as commentText, "
+		+ "c.commentDate as commentDate "
+		+ "from Comment c join c.users u "
+		+ "where c.parentComment.commentId = :parentId "
+		+ "and (c.commentDate > :afterDate or (c.commentDate = :afterDate and c.commentId > :afterId)) "
+		+ "order by c.commentDate asc, c.commentId asc")
+	List<CommentRowDto> findReplyPage(@Param("parentId") Long parentId, @Param("afterDate") Date afterDate,
+		@Param("afterId") Long afterId, Pageable pageable);
+
 	List<Comment> findByParentComment(Comment parentComment);
 
-	void deleteCommentByContent_ContentIdAndUsers_UserId(Long contentId, Long userId);
+	// 그룹에서 사용자가 쓴 댓글과 답글
+	@Query("select c.commentId from Comment c where c.users.userId = :userId "
+		+ "and c.content.contentId in (select ct.contentId from Content ct where ct.topic.group.groupId = :groupId)")
+	List<Long> findCommentIdsByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+	// MySQL 은 삭제 대상 테이블을 서브쿼리에서 읽을 수 없으므로 부모 댓글 아이디를 미리 조회해서 넘김
+	@Modifying
+	@Query("delete from Comment c where c.parentComment.commentId in :parentIds")
+	int deleteRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+	@Modifying
+	@Query("delete from Comment c where c.commentId in :commentIds")
+	int deleteByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+	// 답글을 먼저 지운 뒤 댓글을 지워야 외래 키 제약에 걸리지 않음
+	@Modifying
+	@Query("delete from Comment c where c.content.contentId in :contentIds and c.parentComment is not null")
+	int deleteRepliesByContentIds(@Param("contentIds") Collection<Long> contentIds);
+
+	@Modifying
+	@Query("delete from Comment c where c.content.contentId in :contentIds")
+	int deleteByContentIds(@Param("contentIds") Collection<Long> contentIds);
 }
@@ -0,0 +1,40 @@
+package com.woory.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.woory.backend.entity.ContentReactionCount;
+import com.woory.backend.entity.ReactionType;
+
+public interface ContentReactionCountRepository extends JpaRepository<ContentReactionCount, Long> {
+
+	@Query("select rc from ContentReactionCount rc where rc.content.contentId = :contentId and rc.count > 0")
+	List<ContentReactionCount> findPositiveByContentId(@Param("contentId") Long contentId);
+
+	@Modifying
+	@Query("update ContentReactionCount rc set rc.count = rc.count + :delta "
+		+ "where rc.content.contentId = :contentId and rc.reaction = :reaction")
+	int addCount(@Param("contentId") Long contentId, @Param("reaction") ReactionType reaction,
+		@Param("delta") long delta);
+
+	// 리액션을 일괄 삭제하기 전에 호출, 사용자는 게시물마다 리액션이 하나뿐
+	@Modifying
+	@Query("update ContentReactionCount rc set rc.count = rc.count - 1 where exists (select 1 from ContentReaction cr "
+		+ "where cr.content = rc.content and cr.reaction = rc.reaction and cr.user.userId = :userId "
+		+ "and cr.content.topic.group.groupId = :groupId)")
+	int decrementByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+	@Modifying
+	@Query("update ContentReactionCount rc set rc.count = rc.count - 1 where exists (select 1 from ContentReaction cr "
+		+ "where cr.content = rc.content and cr.reaction = rc.reaction and cr.user.userId = :userId)")
+	int decrementByUserId(@Param("userId") Long userId);
+
+	@Modifying
+	@Query("delete from ContentReactionCount rc where rc.content.contentId in :contentIds")
+	int deleteByContentIds(@Param("contentIds") Collection<Long> contentIds);
+}
@@ -1,13 +1,19 @@
 package com.woory.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.ReactionType;
+
+import jakarta.persistence.LockModeType;
 
 public interface ContentReactionRepository extends JpaRepository<ContentReaction, Long> {
 	List<ContentReaction> findByContent_ContentId(Long contentId);
@@ -17,5 +23,21 @@ public interface ContentReactionRepository extends JpaRepository<ContentReaction
 
 	Optional<ContentReaction> findContentReactionByContent_ContentIdAndUser_UserId(Long contentId, Long userId);
 
-	void deleteContentReactionByContent_ContentIdAndUser_UserId(Long contentId, Long userId);
+	// 잠금 읽기는 트랜잭션 시작 시점의 스냅샷이 아니라 최신 커밋을 읽음
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select cr from ContentReaction cr where cr.content.contentId = :contentId and cr.user.userId = :userId")
+	Optional<ContentReaction> findForUpdate(@Param("contentId") Long contentId, @Param("userId") Long userId);
+
+	@Query("select cr.reaction from ContentReaction cr where cr.content.contentId = :contentId and cr.user.userId = :userId")
+	Optional<ReactionType> findReactionByContentIdAndUserId(@Param("contentId") Long contentId,
+		@Param("userId") Long userId);
+
+	@Modifying
+	@Query("delete from ContentReaction cr where cr.user.userId = :userId "
+		+ "and cr.content.contentId in (select c.contentId from Content c where c.topic.group.groupId = :groupId)")
+	int deleteByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+	@Modifying
+	@Query("delete from ContentReaction cr where cr.content.contentId in :contentIds")
+	int deleteByContentIds(@Param("contentIds") Collection<Long> contentIds);
 }
@@ -1,12 +1,18 @@
 package com.woory.backend.repository;
 
-import com.woory.backend.dto.ContentMonthDto;
+import com.woory.backend.dto.ContentImageDto;
+import com.woory.backend.dto.ContentWithUserDto;
 import com.woory.backend.entity.Content;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,17 +29,46 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
 	@Query("select c from Content c join fetch c.topic where c.contentId = :contentId")
 	Optional<Content> findContentWithTopic(@Param("contentId") Long contentId);
 
-	@Query(value = "SELECT c.topic_id, c.content_img_path, " +
-		"DATE_FORMAT(c.content_reg_date, '%Y-%m-%d') AS content_reg_date, " +
-		"if(c.topic_id in (select f.topic_id from favorite f join group_user gu on gu.id = f.group_user_id where gu.user_id = :userId), 'true', 'false') as isFavorite "+
-		"FROM content c " +
-		"JOIN topic t ON c.topic_id = t.topic_id " +
-		"JOIN group_table g ON t.group_id = g.group_id " +
-		"WHERE g.group_id = :groupId " +
-		"AND DATE_FORMAT(c.content_reg_date, '%Y-%m') LIKE CONCAT(:date, '%') " +
-		"ORDER BY c.content_reg_date ASC", nativeQuery = true)
-	List<ContentMonthDto> findByDateWithImgPath(@Param("groupId") Long groupId, @Param("userId") Long userId,
-		@Param("date") String date);
-
-	List<Content> findByTopic_Group_GroupId(Long groupId);
+	// 같은 게시물의 리액션 변경을 순서대로 처리하기 위한 행 잠금
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select c from Content c where c.contentId = :contentId")
+	Optional<Content> lockByContentId(@Param("contentId") Long contentId);
+
+	@Query("select c.topic.group.groupId from Content c where c.contentId = :contentId")
+	Optional<Long> findGroupIdByContentId(@Param("contentId") Long contentId);
+
+	// 잠금 읽기라 다른 트랜잭션이 방금 커밋한 글까지 읽음
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select c from Content c where c.topic.topicId = :topicId order by c.contentRegDate asc, c.contentId asc")
+	List<Content> findForShareByTopicId(@Param("topicId") Long topicId);
+
+	@Query("select distinct c.topic.topicId from Content c where c.users.userId = :userId")
+	List<Long> findTopicIdsByUserId(@Param("userId") Long userId);
+
+	// 썸네일을 만드는 동안 이미지가 바뀌었다면 갱신하지 않음
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update Content c set c.contentThumbnailPath = :thumbnailPath, c.contentPreviewPath = :previewPath "
+		+ "where c.contentId = :contentId and c.contentImgPath = :imagePath")
+	int updateThumbnails(@Param("contentId") Long contentId, @Param("imagePath") String imagePath,
+		@Param("thumbnailPath") String thumbnailPath, @Param("previewPath") String previewPath);
+
+	// 그룹에서 사용자가 쓴 글과 이미지 경로
+	@Query("select c.contentId as contentId, c.topic.topicId as topicId, c.contentImgPath as contentImgPath, "
+		+ "c.contentThumbnailPath as contentThumbnailPath, c.contentPreviewPath as contentPreviewPath "
+		+ "from Content c where c.topic.group.groupId = :groupId and c.users.userId = :userId")
+	List<ContentImageDto> findContentImagesByGroupIdAndUserId(@Param("groupId") Long groupId,
+		@Param("userId") Long userId);
+
+	// 하루 피드의 글 목록, 댓글 수와 반응 수까지 한 번에 조회
+	@Query("select new com.woory.backend.dto.ContentWithUserDto(u.userId, u.nickname, u.profileImage, "
+		+ "case when u.userId = :userId then true else false end, "
+		+ "c.contentId, c.contentText, c.contentImgPath, c.contentRegDate, "
+		+ "(select count(cm) from Comment cm where cm.content = c), "
+		+ "(select count(r) from ContentReaction r where r.content = c)) "
+		+ "from Content c join c.users u "
+		+ "where c.topic.topicId = :topicId "
+		+ "order by c.contentRegDate asc")
+	List<ContentWithUserDto> findContentsWithUserByTopicId(@Param("topicId") Long topicId,
+		@Param("userId") Long userId);
 }
@@ -1,5 +1,6 @@
 package com.woory.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,6 +19,15 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 	@Query("delete from Favorite f where f.groupUser = :groupUser and f.topic = :topic")
 	void deleteFavoriteByTopicAndGroupUser(@Param("topic") Topic topic, @Param("groupUser") GroupUser groupUser);
 
+	@Modifying
+	@Query("delete from Favorite f where f.groupUser.id = :groupUserId")
+	int deleteByGroupUserId(@Param("groupUserId") Long groupUserId);
+
+	// 달력에 보이는 토픽 중 사용자가 즐겨찾기한 것
+	@Query("select f.topic.topicId from Favorite f where f.groupUser.user.userId = :userId "
+		+ "and f.topic.topicId in :topicIds")
+	List<Long> findFavoriteTopicIds(@Param("userId") Long userId, @Param("topicIds") Collection<Long> topicIds);
+
 	@Query("select f from Favorite f join fetch f.topic where f.groupUser = :groupUser")
 	List<Favorite> findAllWithTopicByGroupUser(@Param("groupUser") GroupUser groupUser);
 }
@@ -0,0 +1,41 @@
+package com.woory.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.woory.backend.dto.CalendarDayDto;
+import com.woory.backend.entity.GroupDailySummary;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface GroupDailySummaryRepository extends JpaRepository<GroupDailySummary, Long> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from GroupDailySummary s where s.topicId = :topicId")
+	Optional<GroupDailySummary> findForUpdateByTopicId(@Param("topicId") Long topicId);
+
+	// (group_id, summary_day) 범위 조회, 대표 글은 기본키로만 조인
+	@Query("select s.summaryDay as summaryDay, s.topicId as topicId, s.postCount as postCount, c.contentImgPath as contentImgPath, "
+		+ "c.contentThumbnailPath as contentThumbnailPath, c.contentPreviewPath as contentPreviewPath "
+		+ "from GroupDailySummary s left join Content c on c.contentId = s.coverContentId "
+		+ "where s.groupId = :groupId and s.summaryDay >= :start and s.summaryDay < :end order by s.summaryDay asc")
+	List<CalendarDayDto> findCalendar(@Param("groupId") Long groupId, @Param("start") LocalDate start,
+		@Param("end") LocalDate end);
+
+	@Modifying
+	@Query("delete from GroupDailySummary s where s.topicId = :topicId")
+	int deleteByTopicId(@Param("topicId") Long topicId);
+
+	@Modifying
+	@Query("delete from GroupDailySummary s where s.groupId = :groupId")
+	int deleteByGroupId(@Param("groupId") Long groupId);
+}
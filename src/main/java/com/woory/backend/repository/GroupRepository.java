@@ -4,6 +4,7 @@ import com.woory.backend.entity.Group;
 import com.woory.backend.entity.GroupUser;
 import com.woory.backend.entity.User;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +26,8 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
 	@Query("select g from Group g left join fetch g.groupUsers where g in (select gu.group from GroupUser gu where gu.user = :user)")
 	List<Group> findGroupHasUser(@Param("user") User user);
+
+	// 그룹 아이디를 keyset 방식으로 나눠 읽기 위함
+	@Query("select g.groupId from Group g where g.groupId > :afterGroupId order by g.groupId asc")
+	List<Long> findGroupIdsAfter(@Param("afterGroupId") Long afterGroupId, Pageable pageable);
 }
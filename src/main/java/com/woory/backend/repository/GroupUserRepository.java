@@ -33,6 +33,19 @@ public interface GroupUserRepository extends JpaRepository<GroupUser, Long> {
 
 	Optional<GroupUser> findByUser_UserIdAndGroup_GroupId(Long userId, Long groupId);
 
+	@Query("select gu.status from GroupUser gu where gu.user.userId = :userId and gu.group.groupId = :groupId")
+	Optional<GroupStatus> findStatusByUserIdAndGroupId(@Param("userId") Long userId, @Param("groupId") Long groupId);
+
+	// 게시물이 속한 그룹의 회원이면 닉네임 반환
+	@Query("select u.nickname from GroupUser gu join gu.user u, Content c join c.topic t "
+		+ "where c.contentId = :contentId and t.group = gu.group and u.userId = :userId")
+	Optional<String> findNicknameInContentGroup(@Param("contentId") Long contentId, @Param("userId") Long userId);
+
+	// 댓글이 속한 그룹의 회원인지 확인
+	@Query("select count(gu) > 0 from GroupUser gu, Comment c join c.content ct join ct.topic t "
+		+ "where c.commentId = :commentId and t.group = gu.group and gu.user.userId = :userId")
+	boolean existsInCommentGroup(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
 	List<GroupUser> findAllByGroup_GroupId(Long groupId);
 
 	List<GroupUser> findByUser_UserId(Long userId);
@@ -0,0 +1,34 @@
+package com.woory.backend.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woory.backend.entity.ImageDeletion;
+import com.woory.backend.entity.ImageDeletionStatus;
+
+@Repository
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+	@Query("select d from ImageDeletion d where d.status = :status and d.nextAttemptAt <= :now order by d.id asc")
+	List<ImageDeletion> findDue(@Param("status") ImageDeletionStatus status, @Param("now") Date now,
+		Pageable pageable);
+
+	// 아직 아무도 선점하지 않았거나 선점이 만료된 항목만 선점하고, 선점 만료 시각까지 다른 서버가 가져가지 못하게 함
+	@Transactional
+	@Modifying
+	@Query("update ImageDeletion d set d.claimedBy = :claimedBy, d.nextAttemptAt = :claimedUntil "
+		+ "where d.id in :ids and d.status = :status and d.nextAttemptAt <= :now")
+	int claim(@Param("ids") Collection<Long> ids, @Param("status") ImageDeletionStatus status,
+		@Param("now") Date now, @Param("claimedBy") String claimedBy, @Param("claimedUntil") Date claimedUntil);
+
+	List<ImageDeletion> findByClaimedByOrderByIdAsc(String claimedBy);
+}
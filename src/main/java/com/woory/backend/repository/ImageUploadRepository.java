@@ -0,0 +1,21 @@
+package com.woory.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woory.backend.entity.ImageUpload;
+
+@Repository
+public interface ImageUploadRepository extends JpaRepository<ImageUpload, String> {
+
+	// 본인이 올렸고 아직 어디에도 붙이지 않은 업로드만 붙임, 동시에 두 번 붙이려 해도 한 번만 성공
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update ImageUpload u set u.attached = true "
+		+ "where u.uploadId = :uploadId and u.userId = :userId and u.attached = false")
+	int attach(@Param("uploadId") String uploadId, @Param("userId") Long userId);
+}
@@ -0,0 +1,33 @@
+package com.woory.backend.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woory.backend.entity.KakaoUnlink;
+import com.woory.backend.entity.KakaoUnlinkStatus;
+
+@Repository
+public interface KakaoUnlinkRepository extends JpaRepository<KakaoUnlink, Long> {
+
+	@Query("select u from KakaoUnlink u where u.status = :status and u.nextAttemptAt <= :now order by u.id asc")
+	List<KakaoUnlink> findDue(@Param("status") KakaoUnlinkStatus status, @Param("now") Date now, Pageable pageable);
+
+	// 아직 아무도 선점하지 않았거나 선점이 만료된 항목만 선점하고, 선점 만료 시각까지 다른 서버가 가져가지 못하게 함
+	@Transactional
+	@Modifying
+	@Query("update KakaoUnlink u set u.claimedBy = :claimedBy, u.nextAttemptAt = :claimedUntil "
+		+ "where u.id in :ids and u.status = :status and u.nextAttemptAt <= :now")
+	int claim(@Param("ids") Collection<Long> ids, @Param("status") KakaoUnlinkStatus status,
+		@Param("now") Date now, @Param("claimedBy") String claimedBy, @Param("claimedUntil") Date claimedUntil);
+
+	List<KakaoUnlink> findByClaimedByOrderByIdAsc(String claimedBy);
+}
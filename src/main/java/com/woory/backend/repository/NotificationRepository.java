@@ -1,5 +1,7 @@
 package com.woory.backend.repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,18 +13,47 @@ import com.woory.backend.dto.NotificationDto;
 import com.woory.backend.entity.Notification;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, BatchNotificationRepository {
+	String NOTIFICATION_COLUMNS = "n.notification_id as notificationId, n.group_id as groupId, "
+		+ "n.topic_date as topicDate, n.topic_id as topicId, n.topic_title as topicTitle, "
+		+ "n.content_user_id as contentUserId, n.content_id as contentId, "
+		+ "n.comment_user_id as commentUserId, n.comment_id as commentId, "
+		+ "n.reply_user_id as replyUserId, n.reply_id as replyId, "
+		+ "n.reaction_user_id as reactionUserId, n.reaction_id as reactionId, "
+		+ "n.user_id as userId, n.notification_type as notificationType, n.issue_date as issueDate, "
+		// author 가 비어 있던 예전 알림은 V3 마이그레이션에서 채움
+		+ "n.author as author ";
+
+	String BEFORE_CURSOR = "(n.issue_date < :beforeDate or (n.issue_date = :beforeDate and n.notification_id < :beforeId)) ";
+
+	/**
+	 * 그룹 알림(글, 토픽)과 내 알림을 각각 인덱스 순서대로 읽어 합친 뒤 (issueDate, id) 기준으로 자름
+	 */
 	@Query(
-		value = "select *, "
-			+ "case when content_user_id is not null then (select u.nickname from user u where u.user_id = n.content_user_id)"
-			+ "when comment_user_id is not null then (select u.nickname from user u where u.user_id = n.comment_user_id) "
-			+ "when reply_user_id is not null then (select u.nickname from user u where u.user_id = n.reply_user_id) "
-			+ "when reaction_user_id is not null then (select u.nickname from user u where u.user_id = n.reaction_user_id) "
-			+ "end as author "
+		value = "select * from ("
+			+ "(select " + NOTIFICATION_COLUMNS
 			+ "from notification n "
-			+ "where (notification_type in ('CONTENT', 'TOPIC') and group_id = :groupId) "
-			+ "or n.user_id = :userId "
-			+ "order by issue_date desc, notification_id desc "
-			+ "limit 10" , nativeQuery = true)
-	List<NotificationDto> findAllByUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+			+ "where n.group_id = :groupId "
+			+ "and n.notification_type in ('CONTENT', 'TOPIC') "
+			+ "and (n.content_user_id is null or n.content_user_id <> :userId) "
+			+ "and " + BEFORE_CURSOR
+			+ "order by n.issue_date desc, n.notification_id desc "
+			+ "limit :size) "
+			+ "union all "
+			+ "(select " + NOTIFICATION_COLUMNS
+			+ "from notification n "
+			+ "where n.user_id = :userId "
+			+ "and " + BEFORE_CURSOR
+			+ "order by n.issue_date desc, n.notification_id desc "
+			+ "limit :size)"
+			+ ") notifications "
+			+ "order by issueDate desc, notificationId desc "
+			+ "limit :size", nativeQuery = true)
+	List<NotificationDto> findAllByUserIdBefore(@Param("groupId") Long groupId, @Param("userId") Long userId,
+		@Param("beforeDate") Date beforeDate, @Param("beforeId") Long beforeId, @Param("size") int size);
+
+	@Query("select n from Notification n where n.groupId in :groupIds "
+		+ "and n.notificationType = com.woory.backend.entity.NotificationType.TOPIC and n.topicDate = :topicDate")
+	List<Notification> findTopicNotificationsByGroupIds(@Param("groupIds") Collection<Long> groupIds,
+		@Param("topicDate") Date topicDate);
 }
@@ -0,0 +1,14 @@
+package com.woory.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.woory.backend.entity.TopicGenerationProgress;
+
+@Repository
+public interface TopicGenerationProgressRepository extends JpaRepository<TopicGenerationProgress, LocalDate> {
+	List<TopicGenerationProgress> findByCompletedFalseOrderByIssueDateAsc();
+}
@@ -1,14 +1,18 @@
 package com.woory.backend.repository;
 
+import com.woory.backend.dto.TopicHeaderDto;
 import com.woory.backend.entity.Topic;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+
 import java.time.LocalDate;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,17 +22,31 @@ public interface TopicRepository extends JpaRepository<Topic, Long>, BatchTopicR
 	@Query("select t from Topic t where t.group.groupId = :groupId and t.issueDate = :date")
 	Optional<Topic> findTopicByGroupIdAndIssueDate(@Param("groupId") Long groupId, @Param("date") LocalDate start);
 
-	@Query("select t from Topic t where t.group.groupId = :groupId and t.issueDate = :date")
-	@EntityGraph(attributePaths = {"content", "content.users"})
-	Optional<Topic> findTopicByGroupIdAndIssueDateWithContent(@Param("groupId") Long groupId,
-		@Param("date") LocalDate start);
-
-	boolean existsByGroup_GroupIdAndAndIssueDate(long groupId, LocalDate date);
+	// 이미 같은 날짜 토픽이 있으면 유니크 제약에 걸린 삽입을 오류 없이 건너뜀
+	@Modifying
+	@Query(value = "insert ignore into topic(topic_content, issue_date, group_id, topic_byte) "
+		+ "values (:topicContent, :issueDate, :groupId, :topicByte)", nativeQuery = true)
+	int insertTopicIfAbsent(@Param("groupId") Long groupId, @Param("issueDate") LocalDate issueDate,
+		@Param("topicContent") String topicContent, @Param("topicByte") Integer topicByte);
 
-	// hasPrevDay = true 그룹 생성일 보다 조회하는 날짜 - 1일이 뒤임
-	// hasPrevDay = false 그룹 생성일이 조회하는 날짜 -1일이 앞임
-	@Query("select count(t.topicId) > 0 from Topic t where t.group.groupId = :groupId and t.group.groupRegDate < :date")
-	boolean existsByGroupRegDate(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select t from Topic t where t.group.groupId = :groupId and t.issueDate = :date")
+	Optional<Topic> findForShareByGroupIdAndIssueDate(@Param("groupId") Long groupId, @Param("date") LocalDate date);
+
+	// 하루 피드 상단 정보 (가입 확인, 그날 토픽, 다음날 토픽 여부, 즐겨찾기 여부)
+	@Query("select new com.woory.backend.dto.TopicHeaderDto(gu.id, g.groupRegDate, t.topicId, t.topicContent, "
+		+ "t.topicByte, t.issueDate, "
+		+ "case when exists (select 1 from Topic n where n.group = g and n.issueDate = :nextDate) then true else false end, "
+		+ "case when exists (select 1 from Favorite f where f.topic = t and f.groupUser = gu) then true else false end) "
+		+ "from GroupUser gu join gu.group g left join g.topic t on t.issueDate = :date "
+		+ "where gu.user.userId = :userId and g.groupId = :groupId")
+	Optional<TopicHeaderDto> findTopicHeader(@Param("groupId") Long groupId, @Param("userId") Long userId,
+		@Param("date") LocalDate date, @Param("nextDate") LocalDate nextDate);
+
+	// 하루 요약을 다시 계산하는 동안 같은 토픽의 계산을 막음
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select t from Topic t where t.topicId = :topicId")
+	Optional<Topic> findForUpdateByTopicId(@Param("topicId") Long topicId);
 
 	@Query("select t from Topic t left join fetch t.content where t.topicId = :topicId")
 	Optional<Topic> findTopicWithContentsByTopicId(@Param("topicId") Long topicId);
@@ -36,6 +54,8 @@ public interface TopicRepository extends JpaRepository<Topic, Long>, BatchTopicR
 	@Query("select t from Topic t left join fetch t.content where t in :topics order by t.issueDate desc")
 	List<Topic> findAllWithContentsByTopics(@Param("topics") List<Topic> topics);
 
-	@Query("select t from Topic t join fetch t.group where t.issueDate = :date")
-	List<Topic> findAllWithGroupsByIssueDate(@Param("date")Date date);
-}
\ No newline at end of file
+	// 해당 날짜 토픽 아이디를 keyset 방식으로 나눠 읽기 위함
+	@Query("select t.topicId from Topic t where t.issueDate = :date and t.topicId > :afterTopicId order by t.topicId asc")
+	List<Long> findTopicIdsByIssueDateAfter(@Param("date") LocalDate date, @Param("afterTopicId") Long afterTopicId,
+		Pageable pageable);
+}
@@ -5,9 +5,11 @@ import java.util.Optional;
 import com.woory.backend.entity.User;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -17,4 +19,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	@Query("select u from User u left join fetch u.groupUsers gu where u.userId = :userId")
 	Optional<User> findByUserIdWithGroupUsers(@Param("userId") long id);
+
+	// 그 사이 사용자가 직접 바꾼 프로필 이미지는 덮어쓰지 않음
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update User u set u.profileImage = :imagePath where u.userId = :userId and u.profileImage = :expected")
+	int updateProfileImage(@Param("userId") Long userId, @Param("expected") String expected,
+		@Param("imagePath") String imagePath);
 }
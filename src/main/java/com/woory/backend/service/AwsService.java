@@ -1,22 +1,36 @@
 package com.woory.backend.service;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import org.apache.http.util.TextUtils;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.woory.backend.entity.ImageUpload;
 import com.woory.backend.error.CustomException;
 import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.ImageUploadRepository;
 import com.woory.backend.utils.PhotoUtils;
+import com.woory.backend.utils.SecurityUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,102 +39,207 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class AwsService {
+	// uploadId 는 UUID 라서 base64 로 보낸 이미지와 겹치지 않음 ('-' 는 base64 문자가 아님)
+	private static final Pattern UPLOAD_ID = Pattern.compile(
+		"[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+
 	private final AmazonS3 amazonS3;
+	private final ImageUploadRepository imageUploadRepository;
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucket;
+	@Value("${image.import.connect-timeout-ms:2000}")
+	private int importConnectTimeoutMs;
+	@Value("${image.import.read-timeout-ms:5000}")
+	private int importReadTimeoutMs;
 
 	public String saveFile(String base64File) {
 		if (base64File == null || base64File.isEmpty()) {
 			log.info("요청에 파일 없음 -> 이름만 수정");
 			return null;
 		}
+		// /v1/images 로 먼저 올린 이미지는 본인이 올렸고 아직 붙이지 않은 것만 사용
+		if (UPLOAD_ID.matcher(base64File).matches()) {
+			return attachUpload(base64File);
+		}
+		// 이미지 주소를 그대로 받으면 다른 사람의 이미지를 가져다 쓸 수 있음
+		if (base64File.startsWith("http://") || base64File.startsWith("https://")) {
+			throw new CustomException(ErrorCode.INVALID_IMAGE_UPLOAD);
+		}
 
-		MultipartFile file = PhotoUtils.base64ToMultipartFile(base64File);
-		String filename = file.getOriginalFilename();
-
-		log.info("File upload started : {}", filename);
+		long length = PhotoUtils.base64DecodedLength(base64File);
+		return saveStream(PhotoUtils.base64ToInputStream(base64File), length);
+	}
 
-		ObjectMetadata metadata = new ObjectMetadata();
-		metadata.setContentLength(file.getSize());
-		metadata.setContentType(file.getContentType());
+	// /v1/images 업로드, 올린 사용자와 함께 기록하고 나중에 붙일 때 쓸 uploadId 를 돌려줌
+	public ImageUpload upload(InputStream inputStream, long length) {
+		Long userId = SecurityUtil.getCurrentUserId();
+		String imagePath = saveStream(inputStream, length);
+		return imageUploadRepository.save(ImageUpload.builder()
+			.uploadId(UUID.randomUUID().toString())
+			.imagePath(imagePath)
+			.userId(userId)
+			.attached(false)
+			.createdAt(new Date())
+			.build());
+	}
 
-		try {
-			amazonS3.putObject(bucket, filename, file.getInputStream(), metadata);
-		} catch (AmazonS3Exception e) {
-			log.error("파일 업로드 중 아마존 S3 오류 발생: {}", e.getMessage());
-			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
-		} catch (SdkClientException e) {
-			log.error("파일 업로드 중 AWS SDK 클라이언트 오류 발생: {}", e.getMessage());
-			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
-		} catch (IOException e) {
-			log.error("파일 업로드 중 IO 오류 발생");
-			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
+	private String attachUpload(String uploadId) {
+		if (imageUploadRepository.attach(uploadId, SecurityUtil.getCurrentUserId()) == 0) {
+			throw new CustomException(ErrorCode.INVALID_IMAGE_UPLOAD);
 		}
-
-		log.info("파일 업로드 성공: {}", filename);
-		return amazonS3.getUrl(bucket, filename).toString();
+		return imageUploadRepository.findById(uploadId)
+			.map(ImageUpload::getImagePath)
+			.orElseThrow(() -> new CustomException(ErrorCode.INVALID_IMAGE_UPLOAD));
 	}
 
-	public String saveFileFromUrl(String url) {
-		if (url == null || url.isEmpty()) {
-			log.info("요청에 파일 없음 -> 이름만 수정");
-			return null;
+	// 본문을 메모리에 모으지 않고 크기를 알려준 채로 S3 에 바로 흘려보냄
+	public String saveStream(InputStream inputStream, long length) {
+		if (length <= 0) {
+			throw new CustomException(ErrorCode.FILE_LENGTH_REQUIRED);
+		}
+		if (length > PhotoUtils.MAX_FILE_SIZE) {
+			throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
 		}
 
-		MultipartFile file = PhotoUtils.urlToFile(url);
-		String filename = file.getOriginalFilename();
+		try (InputStream in = new BufferedInputStream(inputStream)) {
+			String extension = PhotoUtils.detectImageExtension(in);
+			String filename = PhotoUtils.generateRandomFilename(extension);
 
-		log.info("File upload started : {}", filename);
+			log.info("File upload started : {}", filename);
 
-		ObjectMetadata metadata = new ObjectMetadata();
-		metadata.setContentLength(file.getSize());
-		metadata.setContentType(file.getContentType());
+			ObjectMetadata metadata = new ObjectMetadata();
+			metadata.setContentLength(length);
+			metadata.setContentType("image/" + extension);
 
-		try {
-			amazonS3.putObject(bucket, filename, file.getInputStream(), metadata);
+			amazonS3.putObject(bucket, filename, in, metadata);
+
+			log.info("파일 업로드 성공: {}", filename);
+			return amazonS3.getUrl(bucket, filename).toString();
 		} catch (AmazonS3Exception e) {
 			log.error("파일 업로드 중 아마존 S3 오류 발생: {}", e.getMessage());
 			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
 		} catch (SdkClientException e) {
 			log.error("파일 업로드 중 AWS SDK 클라이언트 오류 발생: {}", e.getMessage());
 			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
-		} catch (IOException e) {
+		} catch (IOException | IllegalArgumentException e) {
 			log.error("파일 업로드 중 IO 오류 발생");
 			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
 		}
-
-		log.info("파일 업로드 성공: {}", filename);
-		return amazonS3.getUrl(bucket, filename).toString();
 	}
 
-	public void deleteImage(String fileUrl) {
-		// 기존 이미지가 없는 경우 삭제하지 않고 넘어감.
-		if(TextUtils.isEmpty(fileUrl)){
-			return;
+	// 서버에서 만든 파일(썸네일 등)을 지정한 키로 저장
+	public String saveBytes(String objectKey, byte[] bytes, String contentType) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(bytes.length);
+		metadata.setContentType(contentType);
+
+		try {
+			amazonS3.putObject(bucket, objectKey, new ByteArrayInputStream(bytes), metadata);
+		} catch (SdkClientException e) {
+			log.error("파일 업로드 중 AWS 오류 발생: {}", e.getMessage());
+			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
 		}
-		String[] urlParts = fileUrl.split("/");
-		String fileBucket = urlParts[3] + "/" + urlParts[4];
+		return amazonS3.getUrl(bucket, objectKey).toString();
+	}
 
-		if (!fileBucket.equals(bucket)) {
+	// 호출한 쪽에서 스트림을 닫아야 함
+	public InputStream openObject(String objectKey) {
+		try {
+			return amazonS3.getObject(bucket, objectKey).getObjectContent();
+		} catch (AmazonS3Exception e) {
+			log.error("파일 조회 중 아마존 S3 오류 발생: {}", e.getMessage());
 			throw new CustomException(ErrorCode.FILE_DOES_NOT_EXIST);
 		}
+	}
 
-		String objectKey = String.join("/", Arrays.copyOfRange(urlParts, 5, urlParts.length));
+	private String bucketUrlPrefix() {
+		String url = amazonS3.getUrl(bucket, "_").toString();
+		return url.substring(0, url.length() - 1);
+	}
 
-		if (!amazonS3.doesObjectExist(bucket, objectKey)) {
-			throw new CustomException(ErrorCode.FILE_DOES_NOT_EXIST);
+	// 이 버킷에 올린 이미지 주소에서 객체 키를 꺼냄, 다른 곳의 주소면 empty
+	public Optional<String> toObjectKey(String fileUrl) {
+		String prefix = bucketUrlPrefix();
+		if (TextUtils.isEmpty(fileUrl) || !fileUrl.startsWith(prefix) || fileUrl.length() == prefix.length()) {
+			return Optional.empty();
 		}
+		return Optional.of(fileUrl.substring(prefix.length()));
+	}
+
+	/**
+	 * 여러 객체를 한 번의 요청으로 삭제하고, 삭제하지 못한 키와 사유를 반환 (요청당 최대 1000개)
+	 * 없는 객체는 S3 에서 삭제 성공으로 처리되므로 존재 여부를 따로 확인하지 않는다.
+	 */
+	public Map<String, String> deleteObjects(Collection<String> objectKeys) {
+		// 설정의 버킷 값은 "버킷/경로" 형태일 수 있음
+		String[] bucketAndPath = bucket.split("/", 2);
+		String keyPrefix = bucketAndPath.length > 1 ? bucketAndPath[1] + "/" : "";
+		List<DeleteObjectsRequest.KeyVersion> keys = objectKeys.stream()
+			.map(key -> new DeleteObjectsRequest.KeyVersion(keyPrefix + key))
+			.toList();
 
 		try {
-			amazonS3.deleteObject(bucket, objectKey);
-		} catch (AmazonS3Exception e) {
-			log.error("파일 삭제 오류 발생 : " + e.getMessage());
-			throw new CustomException(ErrorCode.ERROR_DELETING_FILE);
+			amazonS3.deleteObjects(new DeleteObjectsRequest(bucketAndPath[0]).withKeys(keys));
+			log.info("파일 {}건 삭제 성공", keys.size());
+			return Map.of();
+		} catch (MultiObjectDeleteException e) {
+			Map<String, String> failed = new HashMap<>();
+			for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+				failed.put(error.getKey().substring(keyPrefix.length()), error.getCode() + ": " + error.getMessage());
+			}
+			log.error("파일 일괄 삭제 중 {}건 실패", failed.size());
+			return failed;
 		} catch (SdkClientException e) {
-			log.error("AWS SDK 클라이언트 오류 발생 : " + e.getMessage());
-			throw new CustomException(ErrorCode.ERROR_DELETING_FILE);
+			log.error("파일 일괄 삭제 중 AWS 오류 발생: {}", e.getMessage());
+			Map<String, String> failed = new HashMap<>();
+			objectKeys.forEach(key -> failed.put(key, e.getMessage()));
+			return failed;
 		}
+	}
 
-		log.info("파일 삭제 성공 : {}", objectKey);
+	/**
+	 * 외부 주소의 이미지를 연결/읽기 제한 시간을 두고 받으면서 바로 S3 에 올린다.
+	 * 크기를 알려주지 않는 응답은 최대 크기까지만 읽어 둔 뒤 올린다.
+	 */
+	public String saveFileFromUrl(String url) {
+		if (url == null || url.isEmpty()) {
+			log.info("요청에 파일 없음 -> 이름만 수정");
+			return null;
+		}
+
+		HttpURLConnection connection = null;
+		try {
+			URL source = new URL(url);
+			if (!source.getProtocol().equals("http") && !source.getProtocol().equals("https")) {
+				throw new CustomException(ErrorCode.FILE_IS_NOT_IMAGE);
+			}
+			connection = (HttpURLConnection)source.openConnection();
+			connection.setConnectTimeout(importConnectTimeoutMs);
+			connection.setReadTimeout(importReadTimeoutMs);
+			if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+				log.error("이미지 다운로드 실패: status={}", connection.getResponseCode());
+				throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
+			}
+
+			long length = connection.getContentLengthLong();
+			if (length > PhotoUtils.MAX_FILE_SIZE) {
+				throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
+			}
+			if (length < 0) {
+				byte[] bytes;
+				try (InputStream in = connection.getInputStream()) {
+					bytes = in.readNBytes((int)PhotoUtils.MAX_FILE_SIZE + 1);
+				}
+				return saveStream(new ByteArrayInputStream(bytes), bytes.length);
+			}
+			return saveStream(connection.getInputStream(), length);
+		} catch (IOException e) {
+			log.error("이미지 다운로드 중 IO 오류 발생: {}", e.getMessage());
+			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
+		} finally {
+			if (connection != null) {
+				connection.disconnect();
+			}
+		}
 	}
 }
@@ -1,9 +1,11 @@
 package com.woory.backend.service;
 
+import com.woory.backend.dto.CommentCursor;
 import com.woory.backend.dto.CommentDto;
 import com.woory.backend.dto.CommentMapper;
 import com.woory.backend.dto.CommentReplyDto;
 import com.woory.backend.dto.CommentRequestDto;
+import com.woory.backend.dto.CommentRowDto;
 import com.woory.backend.dto.ReplyDto;
 import com.woory.backend.entity.*;
 import com.woory.backend.error.CustomException;
@@ -12,10 +14,10 @@ import com.woory.backend.repository.*;
 import com.woory.backend.utils.SecurityUtil;
 import com.woory.backend.utils.StatusUtil;
 
-import jakarta.transaction.Transactional;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,21 +29,26 @@ import java.util.Map;
 @Service
 public class CommentService {
 
+	public static final int MAX_PAGE_SIZE = 50;
+	private static final int REPLY_PREVIEW_SIZE = 3;
+
 	private CommentRepository commentRepository;
 	private ContentRepository contentRepository;
 	private UserRepository userRepository;
 	private GroupUserRepository groupUserRepository;
-	private NotificationRepository notificationRepository;
+	private NotificationService notificationService;
+	private GroupMembershipCache groupMembershipCache;
 
 	@Autowired
 	public CommentService(CommentRepository commentRepository, ContentRepository contentRepository,
 		UserRepository userRepository, GroupUserRepository groupUserRepository,
-		NotificationRepository notificationRepository) {
+		NotificationService notificationService, GroupMembershipCache groupMembershipCache) {
 		this.commentRepository = commentRepository;
 		this.contentRepository = contentRepository;
 		this.userRepository = userRepository;
 		this.groupUserRepository = groupUserRepository;
-		this.notificationRepository = notificationRepository;
+		this.notificationService = notificationService;
+		this.groupMembershipCache = groupMembershipCache;
 	}
 
 	@Transactional
@@ -52,9 +59,7 @@ public class CommentService {
 
 		Long userId = SecurityUtil.getCurrentUserId();
 
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(
-				userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
 		User user = userRepository.findByUserIdWithGroupUsers(userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -74,9 +79,9 @@ public class CommentService {
 		// 본인 게시글에 댓글단 경우에는 제외
 		if (!userId.equals(content.getUsers().getUserId())) {
 			Notification notification = Notification.fromCreatingComment(groupId, content.getContentId(), userId,
-				save.getCommentId(), content.getUsers().getUserId(), new Date());
+				user.getNickname(), save.getCommentId(), content.getUsers().getUserId(), new Date());
 
-			notificationRepository.save(notification);
+			notificationService.storeNotification(notification);
 		}
 
 		return CommentMapper.toDTO(save, userId);
@@ -92,8 +97,7 @@ public class CommentService {
 		User user = userRepository.findByUserIdWithGroupUsers(userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(user.getUserId(), groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		groupMembershipCache.getStatusOrThrow(user.getUserId(), groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
 		Comment parentComment = null;
 
@@ -114,15 +118,15 @@ public class CommentService {
 		if (!userId.equals(content.getUsers().getUserId())) {
 			// 원 글 작성자에 대한 알림
 			notifications.add(Notification.fromCreatingComment(groupId, content.getContentId(), userId,
-				save.getCommentId(), content.getUsers().getUserId(), now));
+				user.getNickname(), save.getCommentId(), content.getUsers().getUserId(), now));
 		}
 		// 본인 댓글이 아닌 경우에만
 		if (!userId.equals(parentComment.getUsers().getUserId())) {
 			// 원 댓글 작성자에 대한 알림
 			notifications.add(Notification.fromCreatingReply(groupId, content.getContentId(), userId,
-				save.getCommentId(), parentComment.getUsers().getUserId(), now));
+				user.getNickname(), save.getCommentId(), parentComment.getUsers().getUserId(), now));
 		}
-		notificationRepository.saveAll(notifications);
+		notificationService.storeNotifications(notifications);
 
 		return CommentMapper.toReplyDTO(save, user.getUserId());
 	}
@@ -143,13 +147,10 @@ public class CommentService {
 	@Transactional
 	public Map<String, String> updateComment(Long commentId, String newText) {
 		Long userId = SecurityUtil.getCurrentUserId();
-		Long groupId = commentRepository.findByCommentId(commentId)
-			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND))
-			.getContent().getTopic().getGroup().getGroupId();
 		Comment comment = commentRepository.findByCommentId(commentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		Long groupId = comment.getContent().getTopic().getGroup().getGroupId();
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
 		if (!comment.getUsers().getUserId().equals(userId)) {
 			throw new CustomException(ErrorCode.NOT_COMMENT_AUTHOR);
@@ -161,30 +162,55 @@ public class CommentService {
 		return Collections.singletonMap("comment", savedComment.getCommentText());
 	}
 
-	// 댓글 조회 메서드 추가
-	public Map<String, Object> getCommentsByContentId(Long contentId) {
+	// 댓글 조회 메서드 추가, 댓글마다 앞쪽 답글 REPLY_PREVIEW_SIZE 개와 전체 답글 수를 함께 반환
+	@Transactional(readOnly = true)
+	public Map<String, Object> getCommentsByContentId(Long contentId, String cursor, int limit) {
 		Long userId = SecurityUtil.getCurrentUserId();
-		User user = userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-		Long groupId = contentRepository.findByContentId(contentId)
-			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND))
-			.getTopic().getGroup().getGroupId();
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
-		List<Comment> comments = commentRepository.findByContent_ContentId(contentId);
-		List<Comment> topLevelComments = comments.stream()
-			.filter(comment -> comment.getParentComment() == null)
-			.toList();
-		List<CommentReplyDto> list = topLevelComments.stream()
-			.map(comment -> {
-				return CommentMapper.toDTO(comment, userId);
-			}).toList();
+		String nickname = groupUserRepository.findNicknameInContentGroup(contentId, userId)
+			.orElseThrow(() -> contentRepository.existsById(contentId)
+				? new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP)
+				: new CustomException(ErrorCode.GROUP_NOT_FOUND));
+
+		CommentCursor after = CommentCursor.from(cursor);
+		List<CommentRowDto> comments = commentRepository.findCommentPage(contentId, after.getCommentDate(),
+			after.getCommentId(), PageRequest.of(0, limit));
+		List<CommentRowDto> previews = comments.isEmpty() ? List.of()
+			: commentRepository.findReplyPreviews(comments.stream().map(CommentRowDto::getCommentId).toList(),
+			REPLY_PREVIEW_SIZE);
 
 		Map<String, Object> response = StatusUtil.getStatusMessage("댓글이 조회되었습니다");
-		response.put("name", user.getNickname());
-		response.put("data", list);
+		response.put("name", nickname);
+		response.put("data", CommentMapper.toPage(comments, previews, userId));
+		response.put("nextCursor", nextCursor(comments, limit));
+		return response;
+	}
+
+	@Transactional(readOnly = true)
+	public Map<String, Object> getReplies(Long commentId, String cursor, int limit) {
+		Long userId = SecurityUtil.getCurrentUserId();
+		if (!groupUserRepository.existsInCommentGroup(commentId, userId)) {
+			throw commentRepository.existsById(commentId)
+				? new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP)
+				: new CustomException(ErrorCode.COMMENT_NOT_FOUND);
+		}
+
+		CommentCursor after = CommentCursor.from(cursor);
+		List<CommentRowDto> replies = commentRepository.findReplyPage(commentId, after.getCommentDate(),
+			after.getCommentId(), PageRequest.of(0, limit));
+
+		Map<String, Object> response = StatusUtil.getStatusMessage("답글이 조회되었습니다");
+		response.put("data", replies.stream().map(reply -> CommentMapper.toReplyDTO(reply, userId)).toList());
+		response.put("nextCursor", nextCursor(replies, limit));
 		return response;
 	}
 
+	private String nextCursor(List<CommentRowDto> rows, int limit) {
+		if (rows.isEmpty() || rows.size() < limit) {
+			return null;
+		}
+		return CommentCursor.of(rows.get(rows.size() - 1));
+	}
+
 	private void deleteRecursive(Comment comment) {
 		List<Comment> childComments = commentRepository.findByParentComment(comment);
 
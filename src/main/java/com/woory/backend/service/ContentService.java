@@ -1,27 +1,28 @@
 package com.woory.backend.service;
 
+import com.woory.backend.domain.ContentImageSavedEvent;
+import com.woory.backend.domain.TopicContentsChangedEvent;
 import com.woory.backend.dto.*;
 import com.woory.backend.entity.*;
 import com.woory.backend.error.CustomException;
 import com.woory.backend.error.ErrorCode;
 import com.woory.backend.repository.*;
+import com.woory.backend.utils.DateUtil;
 import com.woory.backend.utils.SecurityUtil;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import org.apache.http.util.TextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,17 +30,23 @@ import java.util.stream.Collectors;
 public class ContentService {
 
 	private static final Logger log = LoggerFactory.getLogger(ContentService.class);
-	private final TopicSetRepository topicSetRepository;
 	private final GroupRepository groupRepository;
 	private final ContentRepository contentRepository;
 	private final UserRepository userRepository;
 	private final GroupUserRepository groupUserRepository;
 	private final TopicRepository topicRepository;
 	private final ContentReactionRepository contentReactionRepository;
+	private final ContentReactionCountRepository contentReactionCountRepository;
+	private final GroupDailySummaryRepository groupDailySummaryRepository;
 	private final AwsService awsService;
+	private final ImageDeletionService imageDeletionService;
+	private final ApplicationEventPublisher eventPublisher;
 	private final FavoriteRepository favoriteRepository;
 	private final NotificationService notificationService;
+	private final TopicMaterializer topicMaterializer;
+	private final GroupMembershipCache groupMembershipCache;
 
+	@Transactional(readOnly = true)
 	public ContentDto getContentById(Long contentId) {
 		Content content = contentRepository.findByContentId(contentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
@@ -47,7 +54,7 @@ public class ContentService {
 		contentDto.setContentId(content.getContentId());
 		contentDto.setContentText(content.getContentText());
 		contentDto.setContentImgPath(contentDto.getContentImgPath());
-		contentDto.setContentRegDate(content.getContentRegDate());
+		contentDto.setContentRegDate(DateUtil.toDate(content.getContentRegDate()));
 
 		return contentDto;
 	}
@@ -57,16 +64,11 @@ public class ContentService {
 		Long userId = SecurityUtil.getCurrentUserId();
 		User user = userRepository.findByUserIdWithGroupUsers(userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.GROUP_NOT_FOUND);
 		Topic topic = topicRepository.findById(topicId)
 			.orElseThrow(() -> new CustomException(ErrorCode.TOPIC_NOT_FOUND));
 
-		Calendar calendar = Calendar.getInstance();
-		calendar.setTime(topic.getIssueDate());
-		LocalDate localDate = calendar.toInstant().atZone(ZoneId.of("Asia/Seoul")).toLocalDate();
-
-		canPostContent(localDate);
+		canPostContent(topic.getIssueDate());
 		// 사용자가 이미 해당 주제에 콘텐츠를 작성했는지 확인
 		boolean userHasContentForTopic = contentRepository.existsByTopic_TopicIdAndUsers_UserId(topicId, userId);
 		if (userHasContentForTopic) {
@@ -82,15 +84,17 @@ public class ContentService {
 			content.setContentImgPath(newPhotoPath);
 		}
 
-		Date now = new Date();
+		Instant now = Instant.now();
 		content.setUsers(user);
 		content.setTopic(topic);
 		content.setContentRegDate(now);
 
 		Content save = contentRepository.save(content);
+		publishImageSaved(save);
+		eventPublisher.publishEvent(new TopicContentsChangedEvent(topicId));
 
-		Notification notification = Notification.fromCreatingContent(groupId, user.getUserId(), save.getContentId(),
-			now);
+		Notification notification = Notification.fromCreatingContent(groupId, user.getUserId(), user.getNickname(),
+			save.getContentId(), Date.from(now));
 		notificationService.storeNotification(notification);
 
 		return save;
@@ -99,27 +103,25 @@ public class ContentService {
 	@Transactional
 	public void deleteContent(Long groupId, Long contentId) {
 		Long userId = SecurityUtil.getCurrentUserId();
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
 		Content content = contentRepository.findById(contentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
-		String contentImgPath = content.getContentImgPath();
 
 		//본인의 것만 삭제하기 위해서
 		if (!content.getUsers().getUserId().equals(userId)) {
 			throw new CustomException(ErrorCode.NO_PERMISSION_TO_DELETE);
 		}
 		contentRepository.delete(content);
-		awsService.deleteImage(contentImgPath);
+		deleteImages(content);
+		eventPublisher.publishEvent(new TopicContentsChangedEvent(content.getTopic().getTopicId()));
 	}
 
 	@Transactional
 	public Content updateContent(Long groupId, Long contentId, String contentText, String newPhoto) {
 		Long userId = SecurityUtil.getCurrentUserId();
 
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.GROUP_NOT_FOUND);
 
 		Content content = contentRepository.findContentWithUserByContentId(contentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
@@ -137,52 +139,68 @@ public class ContentService {
 		}
 		// images가 delete로 온다 -> 기존 사진을 삭제하려는 경우
 		if (newPhoto.equals("delete")) {
+			deleteImages(content);
 			content.setContentImgPath(null);
-			awsService.deleteImage(contentImgPath);
+			eventPublisher.publishEvent(new TopicContentsChangedEvent(content.getTopic().getTopicId()));
 			return contentRepository.save(content);
 		}
 
-		// images가 base64 파일로 오는 경우 -> 기존 사진을 수정
+		// 지금 붙어 있는 이미지 주소를 그대로 보낸 경우 사진은 바꾸지 않음
+		if (newPhoto.equals(contentImgPath)) {
+			return contentRepository.save(content);
+		}
+
+		// images가 base64 파일 또는 uploadId 로 오는 경우 -> 기존 사진을 수정
 		// 혹시 모를 오류가 발생하더라도
 		String newPhotoPath = awsService.saveFile(newPhoto);
+		deleteImages(content);
 		content.setContentImgPath(newPhotoPath); // 사진 경로 수정
 		Content save = contentRepository.save(content);
-		awsService.deleteImage(contentImgPath);
+		publishImageSaved(save);
+		// 대표 이미지가 바뀔 수 있음
+		eventPublisher.publishEvent(new TopicContentsChangedEvent(content.getTopic().getTopicId()));
 
 		return save;
 
 	}
 
+	// 원본과 썸네일을 삭제 대기열에 넣고 썸네일 경로를 비움
+	private void deleteImages(Content content) {
+		imageDeletionService.enqueue(content.getContentImgPath());
+		imageDeletionService.enqueue(content.getContentThumbnailPath());
+		imageDeletionService.enqueue(content.getContentPreviewPath());
+		content.setContentThumbnailPath(null);
+		content.setContentPreviewPath(null);
+	}
+
+	private void publishImageSaved(Content content) {
+		if (!TextUtils.isEmpty(content.getContentImgPath())) {
+			eventPublisher.publishEvent(new ContentImageSavedEvent(content.getContentId(), content.getContentImgPath()));
+		}
+	}
+
+	// 달력은 하루 요약에서 최대 31행, 즐겨찾기는 그 토픽들만 확인
+	@Transactional(readOnly = true)
 	public List<ContentDto> getContentsByRegDateMonthLike(Long groupId, String dateStr) {
 		Long currentUserId = SecurityUtil.getCurrentUserId();
 		checkUserGroup(groupId, currentUserId);
-		List<ContentMonthDto> contents = contentRepository.findByDateWithImgPath(groupId, currentUserId, dateStr + "%");
-
-		Map<String, List<ContentMonthDto>> groupedByDate = contents.stream()
-			.collect(Collectors.groupingBy(t -> t.getContentRegDate().toString()));
-
-		List<ContentDto> result = new ArrayList<>();
-		for (Map.Entry<String, List<ContentMonthDto>> entry : groupedByDate.entrySet()) {
-			List<ContentMonthDto> contentList = entry.getValue();
-
-			Optional<ContentMonthDto> first = contentList.stream()
-				.filter(c -> !TextUtils.isEmpty(c.getContentImgPath()))
-				.findFirst();
-
-			// 키 값이 있다면 최소 하나의 원소는 있음
-			ContentMonthDto contentMonthDto = first.orElseGet(() -> contentList.get(0));
-
-			try {
-				result.add(new ContentDto(contentMonthDto.getContentImgPath(),
-					new SimpleDateFormat("yyyy-MM-dd").parse(contentMonthDto.getContentRegDate()),
-					contentMonthDto.getIsFavorite()));
-			} catch (ParseException e) {
-				throw new RuntimeException(e);
-			}
+		LocalDate start = YearMonth.parse(dateStr).atDay(1);
+		List<CalendarDayDto> days = groupDailySummaryRepository.findCalendar(groupId, start, start.plusMonths(1));
+		if (days.isEmpty()) {
+			return List.of();
 		}
-		return result;
+
+		Set<Long> favoriteTopicIds = new HashSet<>(favoriteRepository.findFavoriteTopicIds(currentUserId,
+			days.stream().map(CalendarDayDto::getTopicId).toList()));
+		return days.stream()
+			.map(day -> new ContentDto(day.getContentImgPath(), day.getContentThumbnailPath(),
+				day.getContentPreviewPath(),
+				DateUtil.toDate(day.getSummaryDay()),
+				favoriteTopicIds.contains(day.getTopicId())))
+			.toList();
 	}
 
+	@Transactional(readOnly = true)
 	public ContentWithUserAndTopicDto getContent(Long contentId) {
 		Long currentUserId = SecurityUtil.getCurrentUserId();
 		Content content = contentRepository.findContentWithTopic(contentId)
@@ -193,6 +211,7 @@ public class ContentService {
 		return ContentWithUserAndTopicDto.fromTopicAndContent(currentUserId, content, content.getTopic());
 	}
 
+	@Transactional(readOnly = true)
 	public ContentUpdateDto getModifyContentInf(Long contentId) {
 		Long currentUserId = SecurityUtil.getCurrentUserId();
 		ContentWithUserDto contentWithUserDto = new ContentWithUserDto();
@@ -205,29 +224,30 @@ public class ContentService {
 	}
 
 	public ContentReactionDto addOrUpdateReaction(Long contentId, Long userId, ReactionType newReaction) {
-		Content content = contentRepository.findContentWithTopic(contentId)
+		Long groupId = contentRepository.findGroupIdByContentId(contentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
-		Long groupId = content.getTopic().getGroup().getGroupId();
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		// 같은 게시물의 리액션 변경은 순서대로 처리해 집계가 어긋나지 않도록 함
+		Content content = contentRepository.lockByContentId(contentId)
+			.orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-		Optional<ContentReaction> reaction = contentReactionRepository.findContentReactionByContent_ContentIdAndUser_UserId(
-			contentId, userId);
+		Optional<ContentReaction> reaction = contentReactionRepository.findForUpdate(contentId, userId);
 
 		// 리액션을 한 번도 누르지 않았다면
 		if (reaction.isEmpty()) {
 			ContentReaction contentReaction = new ContentReaction(content, user, newReaction);
 			ContentReaction save = contentReactionRepository.save(contentReaction);
+			addReactionCount(content, newReaction, 1);
 
 			// 본인 게시글이 아닌 경우에만
 			if (!userId.equals(content.getUsers().getUserId())) {
-				Notification notification = Notification.fromCreatingEmoji(groupId, contentId, userId, save.getId(),
-					content.getUsers().getUserId(), new Date());
+				Notification notification = Notification.fromCreatingEmoji(groupId, contentId, userId, user.getNickname(),
+					save.getId(), content.getUsers().getUserId(), new Date());
 				notificationService.storeNotification(notification);
 			}
 
@@ -238,60 +258,68 @@ public class ContentService {
 		// 같은 리액션 또 누르면 -> 삭제
 		if (contentReaction.getReaction().equals(newReaction)) {
 			contentReactionRepository.delete(contentReaction);
+			addReactionCount(content, newReaction, -1);
 			return null;
 		}
 
+		addReactionCount(content, contentReaction.getReaction(), -1);
+		addReactionCount(content, newReaction, 1);
 		contentReaction.setReaction(newReaction);
 		return ContentReactionDto.toContentReactionDto(contentReactionRepository.save(contentReaction));
 	}
 
+	// 집계 행이 없으면 처음 눌린 리액션, 게시물 행을 잠근 상태라 동시에 만들어지지 않음
+	private void addReactionCount(Content content, ReactionType reaction, long delta) {
+		if (contentReactionCountRepository.addCount(content.getContentId(), reaction, delta) == 0 && delta > 0) {
+			contentReactionCountRepository.save(new ContentReactionCount(content, reaction, delta));
+		}
+	}
+
 	//컨텐츠의 리액션 보기
+	@Transactional(readOnly = true)
 	public List<ContentReactionDto.ForStatistics> getReactionsByContentId(Long contentId) {
-		Content content = contentRepository.findByContentId(contentId)
+		Long userId = SecurityUtil.getCurrentUserId();
+		Long groupId = contentRepository.findGroupIdByContentId(contentId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
 
-		Long groupId = content.getTopic().getGroup().getGroupId();
-
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(SecurityUtil.getCurrentUserId(), groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
-		List<ContentReaction> reactions = contentReactionRepository.findByContentIdWithUser(contentId);
-
-		// Convert List<ContentReaction> to List<ContentReactionDto>
-		return ContentReactionDto.toReactionForStatistics(SecurityUtil.getCurrentUserId(), reactions);
+		List<ContentReactionCount> counts = contentReactionCountRepository.findPositiveByContentId(contentId);
+		ReactionType myReaction = contentReactionRepository.findReactionByContentIdAndUserId(contentId, userId)
+			.orElse(null);
+		return ContentReactionDto.toReactionForStatistics(counts, myReaction);
 	}
 
+	// 토픽이 없는 날짜면 같은 트랜잭션에서 만들어야 하므로 읽기 전용(복제 DB)으로 보내지 않음
+	@Transactional
 	public TopicDto getTopicWithContents(LocalDate date, Long groupId) {
 		log.info("date = {}", date.toString());
 		Long currentUserId = SecurityUtil.getCurrentUserId();
-		GroupUser groupUser = checkUserGroup(groupId, currentUserId);
-		Group group = groupRepository.findByGroupId(groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
+		TopicHeaderDto header = topicRepository.findTopicHeader(groupId, currentUserId, date, date.plusDays(1L))
+			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
 		// 그룹 생성일 이전이라면
-		if (group.getGroupRegDate().isAfter(date)) {
+		if (header.getGroupRegDate().isAfter(date)) {
 			throw new CustomException(ErrorCode.CAN_NOT_VIEW_BEFORE_GROUP_REG_DATE);
 		}
+		// 그룹 생성일 당일이면 이전 날짜가 없음
+		boolean hasPrevDay = header.getGroupRegDate().isBefore(date);
 
-		Topic topic = topicRepository.findTopicByGroupIdAndIssueDateWithContent(
-			groupId, date).orElseGet(() -> {
-			TopicSet topicSet = topicSetRepository.findRandomTopic();
-			Topic topic2 = Topic.fromTopicSetWithDateAndGroup(group, topicSet, java.sql.Date.valueOf(date));
-			return topicRepository.save(topic2);
-		});
-
-		boolean hasPrevDay = topicRepository.existsByGroupRegDate(groupId, date);
-		boolean hasNextDay
-			= topicRepository.existsByGroup_GroupIdAndAndIssueDate(groupId, date.plusDays(1L));
-		boolean isFavorite = favoriteRepository.existsByTopicAndGroupUser(topic, groupUser);
-		return TopicDto.fromTopicWithContents(SecurityUtil.getCurrentUserId(), topic, hasPrevDay, hasNextDay,
-			isFavorite);
+		if (!header.hasTopic()) {
+			// 해당 날짜 토픽이 없으면 새로 만들고, 글과 즐겨찾기는 당연히 없음
+			Topic topic = topicMaterializer.getOrCreate(groupId, date);
+			return TopicDto.fromTopicWithoutContents(topic, hasPrevDay, header.isHasNextDay());
+		}
+
+		List<ContentWithUserDto> contents = contentRepository.findContentsWithUserByTopicId(header.getTopicId(),
+			currentUserId);
+		return TopicDto.fromTopicHeaderWithContents(header, hasPrevDay, contents);
 	}
 
-	private GroupUser checkUserGroup(Long groupId, Long currentUserId) {
-		return groupUserRepository.findByUser_UserIdAndGroup_GroupId(currentUserId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+	private void checkUserGroup(Long groupId, Long currentUserId) {
+		groupMembershipCache.getStatusOrThrow(currentUserId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 	}
 
+	@Transactional(readOnly = true)
 	public TopicDto getTopicOnly(LocalDate date, Long groupId) {
 		Topic topic = topicRepository.findTopicByGroupIdAndIssueDate(groupId, date)
 			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
@@ -299,12 +327,13 @@ public class ContentService {
 	}
 
 	private void canPostContent(LocalDate issueDate) {
-		LocalDate today = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDate();
+		LocalDate today = DateUtil.today();
 		if (today.isAfter(issueDate)) {
 			throw new CustomException(ErrorCode.CAN_NOT_POST_AFTER_DAY);
 		}
 	}
 
+	@Transactional(readOnly = true)
 	public List<FavoriteDto> getFavorites(Long groupId) {
 		Long userId = SecurityUtil.getCurrentUserId();
 		GroupUser groupUser = groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
@@ -319,12 +348,12 @@ public class ContentService {
 
 		List<FavoriteDto> result = new ArrayList<>();
 		for (Topic t : topicWithContents) {
-			String contentImg = t.getContent().stream()
-				.map(Content::getContentImgPath)
-				.filter(Objects::nonNull).findFirst()
-				.orElseGet(() -> null);
+			Content contentWithImg = t.getContent().stream()
+				.filter(c -> c.getContentImgPath() != null)
+				.findFirst()
+				.orElse(null);
 
-			result.add(new FavoriteDto(t.getTopicId(), t.getIssueDate(), contentImg, t.getTopicContent()));
+			result.add(new FavoriteDto(t.getTopicId(), DateUtil.toDate(t.getIssueDate()), contentWithImg, t.getTopicContent()));
 		}
 
 		return result;
@@ -1,5 +1,8 @@
 package com.woory.backend.service;
 
+import java.util.Optional;
+
+import com.woory.backend.domain.ProfileImageImportEvent;
 import com.woory.backend.dto.CustomOAuth2User;
 import com.woory.backend.dto.KakaoResponse;
 import com.woory.backend.dto.NaverResponse;
@@ -8,11 +11,12 @@ import com.woory.backend.dto.UserDto;
 import com.woory.backend.entity.User;
 import com.woory.backend.repository.UserRepository;
 
+import org.apache.http.util.TextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -20,10 +24,6 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
@@ -31,15 +31,18 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 	private static final Logger log = LoggerFactory.getLogger(CustomOAuth2UserService.class);
 	private final UserRepository userRepository;
 	private final String userDefaultImg;
-	private final AwsService awsService;
+	private final OAuthProviderClient oAuthProviderClient;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Autowired
 	public CustomOAuth2UserService(UserRepository userRepository,
-		AwsService awsService,
+		OAuthProviderClient oAuthProviderClient,
+		ApplicationEventPublisher eventPublisher,
 		@Value("${service.default.profileImg}") String profileImg) {
 		this.userRepository = userRepository;
 		this.userDefaultImg = profileImg;
-		this.awsService = awsService;
+		this.oAuthProviderClient = oAuthProviderClient;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -59,18 +62,18 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 			return null;
 		}
 
-		oAuth2LogoutImmediately(accessToken, clientRegistration);
+		oAuthProviderClient.revokeToken(clientRegistration, accessToken);
 
 		//구현
 		String username = oAuth2Response.getProvider() + " " + oAuth2Response.getProviderId();
 
-		User byUsername = userRepository.findByUsername(username)
+		Optional<User> existingUser = userRepository.findByUsername(username);
+		User byUsername = existingUser
 			.orElseGet(() -> {
 				User user = new User();
 				user.setUsername(username);
 				// user.setEmail(oAuth2Response.getEmail());
-				user.setProfileImage(oAuth2Response.getProfileImage().isEmpty() ? userDefaultImg :
-					awsService.saveFileFromUrl(oAuth2Response.getProfileImage()));
+				user.setProfileImage(userDefaultImg);
 				user.setRole("ROLE_USER");
 				user.setNickname(oAuth2Response.getName());
 				return user;
@@ -78,50 +81,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
 		byUsername.setUsername(username);
 		// byUsername.setEmail(oAuth2Response.getEmail());
-		return new CustomOAuth2User(UserDto.fromUser(userRepository.save(byUsername)));
-	}
-
-	private void oAuth2LogoutImmediately(String accessToken, ClientRegistration registration) {
-		WebClient webClient = WebClient.builder()
-			.build();
-
-		if (registration.getRegistrationId().equals("naver")) {
-			MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-			params.add("grant_type", "delete"); // 토큰 삭제 시 delete
-			params.add("client_id", registration.getClientId());
-			params.add("client_secret", registration.getClientSecret());
-			params.add("access_token", accessToken);
-			String response = webClient.post()
-				.uri(uriBuilder -> uriBuilder.scheme("https")
-					.host("nid.naver.com")
-					.path("oauth2.0/token")
-					.build()
-				)
-				.body(BodyInserters.fromFormData(params))
-				.header("Content-type", MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
+		User savedUser = userRepository.save(byUsername);
 
-			log.info("response = {}", response);
-			return;
-		}
-
-		if (registration.getRegistrationId().equals("kakao")) {
-			String response = webClient.post()
-				.uri(uriBuilder -> uriBuilder.scheme("https")
-					.host("kapi.kakao.com")
-					.path("v1/user/logout")
-					.build()
-				)
-				.header("Authorization", "Bearer " + accessToken)
-				.header("Content-type", MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-				.retrieve()
-				.bodyToMono(String.class)
-				.block();
-
-			log.info("response = {}", response);
+		// 새 사용자는 기본 이미지로 바로 로그인시키고, 제공자 프로필 이미지는 백그라운드에서 가져와 바꿈
+		if (existingUser.isEmpty() && !TextUtils.isEmpty(oAuth2Response.getProfileImage())) {
+			eventPublisher.publishEvent(
+				new ProfileImageImportEvent(savedUser.getUserId(), oAuth2Response.getProfileImage(), userDefaultImg));
 		}
+		return new CustomOAuth2User(UserDto.fromUser(savedUser));
 	}
-
 }
@@ -0,0 +1,73 @@
+package com.woory.backend.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.http.util.TextUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.woory.backend.domain.TopicContentsChangedEvent;
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.GroupDailySummary;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.repository.GroupDailySummaryRepository;
+import com.woory.backend.repository.TopicRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 달력에서 읽는 그룹별 하루 요약(group_daily_summary)을 관리한다.
+ * 요약은 토픽 하나의 글 몇 개로 다시 계산하므로 증감 대신 항상 새로 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GroupDailySummaryService {
+
+	private final GroupDailySummaryRepository groupDailySummaryRepository;
+	private final TopicRepository topicRepository;
+	private final ContentRepository contentRepository;
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onTopicContentsChanged(TopicContentsChangedEvent event) {
+		// 여러 토픽을 잠글 때 교착을 피하도록 id 순서대로
+		event.getTopicIds().stream().distinct().sorted().forEach(this::refresh);
+	}
+
+	@Transactional
+	public void refresh(Long topicId) {
+		Optional<Topic> topic = topicRepository.findForUpdateByTopicId(topicId);
+		if (topic.isEmpty()) {
+			groupDailySummaryRepository.deleteByTopicId(topicId);
+			return;
+		}
+
+		List<Content> contents = contentRepository.findForShareByTopicId(topicId);
+		Optional<GroupDailySummary> existing = groupDailySummaryRepository.findForUpdateByTopicId(topicId);
+		if (contents.isEmpty()) {
+			existing.ifPresent(groupDailySummaryRepository::delete);
+			return;
+		}
+
+		Long coverContentId = contents.stream()
+			.filter(content -> !TextUtils.isEmpty(content.getContentImgPath()))
+			.findFirst()
+			.orElse(contents.get(0))
+			.getContentId();
+
+		GroupDailySummary summary = existing.orElseGet(() -> new GroupDailySummary(
+			topic.get().getGroup().getGroupId(), topic.get().getIssueDate(), topicId));
+		summary.update(coverContentId, contents.size());
+		groupDailySummaryRepository.save(summary);
+	}
+
+	@Transactional
+	public void deleteByGroupId(Long groupId) {
+		groupDailySummaryRepository.deleteByGroupId(groupId);
+	}
+}
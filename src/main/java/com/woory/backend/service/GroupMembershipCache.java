@@ -0,0 +1,116 @@
+package com.woory.backend.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.GroupUserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * (userId, groupId) 별 가족 내 상태 캐시
+ * 가입하지 않은 경우는 저장하지 않으므로 가입 직후에도 바로 반영되고,
+ * 탈퇴, 추방, 가장 변경, 가족 삭제 시에는 해당 항목을 지운다.
+ * 복제 DB 를 쓰면 지연이 있어 방금 바뀐 상태를 읽을 수 있으므로, 캐시에 넣을 값은 항상 기본 DB 에서 읽는다.
+ */
+@Component
+public class GroupMembershipCache {
+
+	private final GroupUserRepository groupUserRepository;
+	private final Cache<String, GroupStatus> cache;
+	private final TransactionTemplate primaryRead;
+	private final boolean replicaEnabled;
+
+	public GroupMembershipCache(
+		GroupUserRepository groupUserRepository,
+		PlatformTransactionManager transactionManager,
+		@Value("${datasource.replica.enabled:false}") boolean replicaEnabled,
+		MeterRegistry meterRegistry,
+		@Value("${group.membership-cache.max-size:10000}") long maxSize,
+		@Value("${group.membership-cache.ttl-seconds:300}") long ttlSeconds
+	) {
+		this.groupUserRepository = groupUserRepository;
+		// 읽기 전용이 아닌 트랜잭션은 기본 DB 로 감
+		this.primaryRead = new TransactionTemplate(transactionManager);
+		this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.replicaEnabled = replicaEnabled;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+		// cache.gets{result=hit|miss} 등으로 적중률 확인
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "groupMembership");
+	}
+
+	public Optional<GroupStatus> getStatus(Long userId, Long groupId) {
+		String key = key(userId, groupId);
+		GroupStatus cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<GroupStatus> status = load(userId, groupId);
+		status.ifPresent(value -> cache.put(key, value));
+		return status;
+	}
+
+	private Optional<GroupStatus> load(Long userId, Long groupId) {
+		// 복제 DB 를 쓰지 않으면 어느 트랜잭션이든 기본 DB 이고, 쓰기 트랜잭션 안이면 이미 기본 DB 연결을 쓰고 있음
+		// 새 트랜잭션을 열면 같은 풀에서 연결을 하나 더 잡으므로 필요할 때만 엶
+		if (!replicaEnabled || TransactionSynchronizationManager.isActualTransactionActive()
+			&& !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return groupUserRepository.findStatusByUserIdAndGroupId(userId, groupId);
+		}
+		// 캐시가 비었을 때만 잠깐 연결을 하나 더 씀
+		return primaryRead.execute(status -> groupUserRepository.findStatusByUserIdAndGroupId(userId, groupId));
+	}
+
+	public GroupStatus getStatusOrThrow(Long userId, Long groupId, ErrorCode errorCode) {
+		return getStatus(userId, groupId).orElseThrow(() -> new CustomException(errorCode));
+	}
+
+	public void invalidate(Long userId, Long groupId) {
+		evict(() -> cache.invalidate(key(userId, groupId)));
+	}
+
+	public void invalidateGroup(Long groupId) {
+		String suffix = ":" + groupId;
+		evict(() -> cache.asMap().keySet().removeIf(key -> key.endsWith(suffix)));
+	}
+
+	public void invalidateUser(Long userId) {
+		String prefix = userId + ":";
+		evict(() -> cache.asMap().keySet().removeIf(key -> key.startsWith(prefix)));
+	}
+
+	// 지금 지우고 트랜잭션이 끝난 뒤 한 번 더 지워, 그 사이 다른 요청이 이전 상태를 다시 넣은 경우도 정리
+	private void evict(Runnable eviction) {
+		eviction.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					eviction.run();
+				}
+			});
+		}
+	}
+
+	private String key(Long userId, Long groupId) {
+		return userId + ":" + groupId;
+	}
+}
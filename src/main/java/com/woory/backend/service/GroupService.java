@@ -1,5 +1,7 @@
 package com.woory.backend.service;
 
+import com.woory.backend.domain.TopicContentsChangedEvent;
+import com.woory.backend.dto.ContentImageDto;
 import com.woory.backend.dto.DataDto;
 import com.woory.backend.dto.GroupInfoDto;
 import com.woory.backend.dto.MemberDetailDto;
@@ -8,49 +10,71 @@ import com.woory.backend.entity.*;
 import com.woory.backend.error.CustomException;
 import com.woory.backend.error.ErrorCode;
 import com.woory.backend.repository.*;
+import com.woory.backend.utils.DateUtil;
 import com.woory.backend.utils.SecurityUtil;
 import com.woory.backend.utils.TopicManager;
-
-import jakarta.transaction.Transactional;
+import com.woory.backend.utils.TopicSetCatalog;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 @Transactional
 public class GroupService {
+	private static final int BULK_DELETE_CHUNK_SIZE = 1000;
 	private UserRepository userRepository;
 	private GroupRepository groupRepository;
 	private GroupUserRepository groupUserRepository;
-	private TopicSetRepository topicSetRepository;
+	private TopicSetCatalog topicSetCatalog;
 	private ContentRepository contentRepository;
 	private ContentReactionRepository contentReactionRepository;
+	private ContentReactionCountRepository contentReactionCountRepository;
 	private CommentRepository commentRepository;
+	private FavoriteRepository favoriteRepository;
+	private ImageDeletionService imageDeletionService;
+	private GroupMembershipCache groupMembershipCache;
+	private GroupDailySummaryService groupDailySummaryService;
+	private ApplicationEventPublisher eventPublisher;
 	private final String serverAddress;
 
 	@Autowired
 	public GroupService(UserRepository userRepository, GroupRepository groupRepository,
 		GroupUserRepository groupUserRepository,
-		TopicSetRepository topicSetRepository,
+		TopicSetCatalog topicSetCatalog,
 		ContentReactionRepository contentReactionRepository,
+		ContentReactionCountRepository contentReactionCountRepository,
 		CommentRepository commentRepository,
 		ContentRepository contentRepository,
+		FavoriteRepository favoriteRepository,
+		ImageDeletionService imageDeletionService,
+		GroupMembershipCache groupMembershipCache,
+		GroupDailySummaryService groupDailySummaryService,
+		ApplicationEventPublisher eventPublisher,
 		@Value("${server.ip}") String serverAddress) {
 		this.userRepository = userRepository;
 		this.groupRepository = groupRepository;
 		this.groupUserRepository = groupUserRepository;
-		this.topicSetRepository = topicSetRepository;
+		this.topicSetCatalog = topicSetCatalog;
 		this.contentRepository = contentRepository;
 		this.commentRepository = commentRepository;
 		this.contentReactionRepository = contentReactionRepository;
+		this.contentReactionCountRepository = contentReactionCountRepository;
+		this.favoriteRepository = favoriteRepository;
+		this.imageDeletionService = imageDeletionService;
+		this.groupMembershipCache = groupMembershipCache;
+		this.groupDailySummaryService = groupDailySummaryService;
+		this.eventPublisher = eventPublisher;
 		this.serverAddress = serverAddress;
 	}
 
+	@Transactional(readOnly = true)
 	public List<GroupInfoDto> getMyGroups() {
 		Long userId = SecurityUtil.getCurrentUserId();
 		List<GroupInfoDto> myGroups = groupUserRepository.findMyGroupInfoDto(userId);
@@ -60,6 +84,7 @@ public class GroupService {
 		return myGroups;
 	}
 
+	@Transactional(readOnly = true)
 	public DataDto getMyGroupId(Long groupID) {
 		Long userId = SecurityUtil.getCurrentUserId();
 
@@ -117,11 +142,12 @@ public class GroupService {
 		groupUser.setLastUpdatedDate(new Date());
 		// 토픽 생성
 		int topicOfToday = TopicManager.getTopicOfToday();
-		TopicSet topicSet = topicSetRepository.findTopicSetById((long)topicOfToday)
+		TopicSet topicSet = topicSetCatalog.findById(topicOfToday)
 			.orElseThrow(() -> new CustomException(ErrorCode.TOPIC_NOT_FOUND));
-		Topic topic = Topic.fromTopicSetWithDateAndGroup(group, topicSet, now);
+		LocalDate today = DateUtil.today();
+		Topic topic = Topic.fromTopicSetWithDateAndGroup(group, topicSet, today);
 
-		group.setGroupRegDate(LocalDate.ofInstant(now.toInstant(), ZoneId.systemDefault()));
+		group.setGroupRegDate(today);
 		group.setGroupUsers(List.of(groupUser));
 		group.setTopic(List.of(topic));
 
@@ -135,6 +161,8 @@ public class GroupService {
 		GroupStatus status = getGroupStatus(groupId, loginId);
 		if (status == GroupStatus.GROUP_LEADER) {
 			groupRepository.deleteByGroupId(groupId);
+			groupDailySummaryService.deleteByGroupId(groupId);
+			groupMembershipCache.invalidateGroup(groupId);
 		} else {
 			throw new CustomException(ErrorCode.NO_PERMISSION_TO_DELETE_GROUP);
 		}
@@ -150,6 +178,8 @@ public class GroupService {
 		//1명이하이면 그룹떠날시 그룹 삭제 유저그룹에서 삭제
 		if (groupUsers.size() <= 1) {
 			groupRepository.deleteByGroupId(groupId);
+			groupDailySummaryService.deleteByGroupId(groupId);
+			groupMembershipCache.invalidateGroup(groupId);
 			return null;
 		} else {
 			GroupStatus status = getGroupStatus(groupId, userId);
@@ -165,6 +195,8 @@ public class GroupService {
 			if (status == GroupStatus.MEMBER) {
 				groupUserRepository.deleteByGroup_GroupIdAndUser_UserId(groupId, userId);
 			}
+			// 가장이 나가면 다음 가장의 상태도 바뀜
+			groupMembershipCache.invalidateGroup(groupId);
 			cnt--;
 			if (cnt == 1) {
 				checkOnePerson = true;
@@ -181,23 +213,51 @@ public class GroupService {
 		if (status != GroupStatus.GROUP_LEADER) {
 			throw new CustomException(ErrorCode.NO_PERMISSION_TO_KICK_MEMBER);
 		}
-		List<Content> contents = contentRepository.findByTopic_Group_GroupId(groupId);
-		for (Content content : contents) {
-			// 사용자가 작성한 댓글 삭제
-			commentRepository.deleteCommentByContent_ContentIdAndUsers_UserId(content.getContentId(), userId);
-			// 사용자가 반응한 Reaction 삭제
-			contentReactionRepository.deleteContentReactionByContent_ContentIdAndUser_UserId(content.getContentId(), userId);
-			// 사용자가 작성한 Content 삭제
-			if (content.getUsers().getUserId().equals(userId)) {
-				contentRepository.delete(content);
-			}
+		GroupUser bannedUser = groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
+			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+
+		List<ContentImageDto> contents = contentRepository.findContentImagesByGroupIdAndUserId(groupId, userId);
+		List<Long> contentIds = contents.stream().map(ContentImageDto::getContentId).toList();
+		List<Long> commentIds = commentRepository.findCommentIdsByGroupIdAndUserId(groupId, userId);
+
+		// 사용자가 작성한 댓글 삭제 (달린 답글부터)
+		inChunks(commentIds, commentRepository::deleteRepliesByParentIds);
+		inChunks(commentIds, commentRepository::deleteByCommentIds);
+		// 사용자가 반응한 Reaction 삭제 (집계에서 먼저 빼고)
+		contentReactionCountRepository.decrementByGroupIdAndUserId(groupId, userId);
+		contentReactionRepository.deleteByGroupIdAndUserId(groupId, userId);
+		// 사용자가 작성한 Content 와 거기 달린 댓글, 반응 삭제
+		inChunks(contentIds, ids -> {
+			commentRepository.deleteRepliesByContentIds(ids);
+			commentRepository.deleteByContentIds(ids);
+			contentReactionRepository.deleteByContentIds(ids);
+			contentReactionCountRepository.deleteByContentIds(ids);
+			contentRepository.deleteAllByIdInBatch(ids);
+		});
+		favoriteRepository.deleteByGroupUserId(bannedUser.getId());
+		groupUserRepository.deleteAllByIdInBatch(List.of(bannedUser.getId()));
+		groupMembershipCache.invalidate(userId, groupId);
+
+		List<String> imagePaths = new ArrayList<>();
+		for (ContentImageDto content : contents) {
+			imagePaths.add(content.getContentImgPath());
+			imagePaths.add(content.getContentThumbnailPath());
+			imagePaths.add(content.getContentPreviewPath());
+		}
+		imageDeletionService.enqueueAll(imagePaths);
+		eventPublisher.publishEvent(new TopicContentsChangedEvent(
+			contents.stream().map(ContentImageDto::getTopicId).toList()));
+	}
+
+	// IN 절 파라미터가 너무 길어지지 않도록 나눠서 처리
+	private static void inChunks(List<Long> ids, Consumer<List<Long>> action) {
+		for (int from = 0; from < ids.size(); from += BULK_DELETE_CHUNK_SIZE) {
+			action.accept(ids.subList(from, Math.min(from + BULK_DELETE_CHUNK_SIZE, ids.size())));
 		}
-		groupUserRepository.deleteByGroup_GroupIdAndUser_UserId(groupId, userId);
 	}
 
 	private GroupStatus getGroupStatus(Long groupId, Long loginId) {
-		return groupUserRepository.findByUser_UserIdAndGroup_GroupId(loginId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND)).getStatus();
+		return groupMembershipCache.getStatusOrThrow(loginId, groupId, ErrorCode.GROUP_NOT_FOUND);
 	}
 
 	@Deprecated
@@ -244,6 +304,7 @@ public class GroupService {
 		groupUser.setLastUpdatedDate(new Date());
 
 		groupUserRepository.save(groupUser);
+		groupMembershipCache.invalidate(userId, groupId);
 	}
 
 	private User getUser() {
@@ -253,12 +314,12 @@ public class GroupService {
 	}
 
 	//그룹에 속한 유저인지 아닌지 확인
+	@Transactional(readOnly = true)
 	public Boolean CheckUserIncludeGroup(Long groupId) {
 		Long userId = SecurityUtil.getCurrentUserId();
-		Optional<GroupUser> byUserUserIdAndGroupGroupId = groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId,
-			groupId);
-		if (byUserUserIdAndGroupGroupId.isPresent()) {
-			GroupStatus status = byUserUserIdAndGroupGroupId.get().getStatus();
+		Optional<GroupStatus> groupStatus = groupMembershipCache.getStatus(userId, groupId);
+		if (groupStatus.isPresent()) {
+			GroupStatus status = groupStatus.get();
 			if (status.equals(GroupStatus.MEMBER) || status.equals(GroupStatus.GROUP_LEADER)) {
 				return true;
 			} else {
@@ -271,7 +332,7 @@ public class GroupService {
 	@Transactional
 	public Group updateGroup(Long groupId, String groupName, String photoPath) {
 		Long userId = SecurityUtil.getCurrentUserId();
-		GroupStatus status = groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId).get().getStatus();
+		GroupStatus status = getGroupStatus(groupId, userId);
 		if (status == GroupStatus.GROUP_LEADER) {
 
 			Group group = groupRepository.findById(groupId)
@@ -289,19 +350,22 @@ public class GroupService {
 
 	}
 
+	@Transactional(readOnly = true)
 	public List<GroupUser> activeMember(Long groupId) {
 		return groupUserRepository.findGroupUsersByGroupIdOrderByRegDate(groupId);
 	}
 
+	@Transactional(readOnly = true)
 	public GroupInfoDto getGroupInfo(long groupId) {
 		Group group = groupRepository.findByGroupId(groupId)
 			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
 		return GroupInfoDto.fromGroup(group);
 	}
 
+	@Transactional(readOnly = true)
 	public String getGroupName(Long groupId) {
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(SecurityUtil.getCurrentUserId(), groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		groupMembershipCache.getStatusOrThrow(SecurityUtil.getCurrentUserId(), groupId,
+			ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
 		Group group = groupRepository.findByGroupId(groupId)
 			.orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
@@ -0,0 +1,147 @@
+package com.woory.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.http.util.TextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woory.backend.entity.ImageDeletion;
+import com.woory.backend.entity.ImageDeletionStatus;
+import com.woory.backend.repository.ImageDeletionRepository;
+
+/**
+ * S3 이미지 삭제 대기열
+ * 삭제할 이미지는 호출한 쪽 트랜잭션 안에서 image_deletion 테이블에 기록되므로, 커밋된 변경에 대해서만 삭제가 일어나고
+ * S3 오류가 DB 변경을 되돌리지 않는다. 주기적으로 대기 중인 항목을 모아 S3 일괄 삭제 요청으로 지우고,
+ * 실패한 항목은 점점 간격을 늘려 재시도하다 최대 횟수를 넘기면 DEAD 상태로 남긴다.
+ * 여러 서버가 함께 돌아도 같은 항목을 두 번 처리하지 않도록 처리 전에 항목을 선점하고,
+ * 선점한 서버가 도중에 죽으면 선점 만료 시각이 지난 뒤 다른 서버가 다시 가져간다.
+ */
+@Service
+public class ImageDeletionService {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageDeletionService.class);
+	// S3 일괄 삭제 요청 한 번에 보낼 수 있는 최대 키 개수
+	private static final int MAX_DELETE_KEYS = 1000;
+
+	private final ImageDeletionRepository imageDeletionRepository;
+	private final AwsService awsService;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long backoffMillis;
+	private final long claimTimeoutMillis;
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public ImageDeletionService(ImageDeletionRepository imageDeletionRepository, AwsService awsService,
+		@Value("${image.deletion.batch-size:1000}") int batchSize,
+		@Value("${image.deletion.max-attempts:5}") int maxAttempts,
+		@Value("${image.deletion.backoff-ms:60000}") long backoffMillis,
+		@Value("${image.deletion.claim-timeout-ms:300000}") long claimTimeoutMillis) {
+		this.imageDeletionRepository = imageDeletionRepository;
+		this.awsService = awsService;
+		this.batchSize = Math.min(batchSize, MAX_DELETE_KEYS);
+		this.maxAttempts = maxAttempts;
+		this.backoffMillis = backoffMillis;
+		this.claimTimeoutMillis = claimTimeoutMillis;
+	}
+
+	@Transactional
+	public void enqueue(String imagePath) {
+		// 기존 이미지가 없는 경우 삭제하지 않고 넘어감.
+		if (TextUtils.isEmpty(imagePath)) {
+			return;
+		}
+		imageDeletionRepository.save(ImageDeletion.of(imagePath));
+	}
+
+	@Transactional
+	public void enqueueAll(Collection<String> imagePaths) {
+		List<ImageDeletion> deletions = imagePaths.stream()
+			.filter(imagePath -> !TextUtils.isEmpty(imagePath))
+			.map(ImageDeletion::of)
+			.toList();
+		imageDeletionRepository.saveAll(deletions);
+	}
+
+	@Scheduled(fixedDelayString = "${image.deletion.interval-ms:10000}")
+	public void drain() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// 한 번에 가득 찼다면 남은 항목이 있을 수 있으므로 이어서 처리
+			int processed;
+			do {
+				processed = drainBatch();
+			} while (processed == batchSize);
+		} catch (RuntimeException e) {
+			log.error("이미지 삭제 대기열 처리 실패", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private int drainBatch() {
+		Date now = new Date();
+		List<ImageDeletion> candidates = imageDeletionRepository.findDue(ImageDeletionStatus.PENDING, now,
+			PageRequest.of(0, batchSize));
+		if (candidates.isEmpty()) {
+			return 0;
+		}
+
+		// 다른 서버가 먼저 선점한 항목은 빠짐
+		String claimedBy = UUID.randomUUID().toString();
+		imageDeletionRepository.claim(candidates.stream().map(ImageDeletion::getId).toList(),
+			ImageDeletionStatus.PENDING, now, claimedBy, new Date(now.getTime() + claimTimeoutMillis));
+		List<ImageDeletion> due = imageDeletionRepository.findByClaimedByOrderByIdAsc(claimedBy);
+
+		// 같은 이미지가 여러 번 들어와도 한 번만 요청
+		Map<String, List<ImageDeletion>> byObjectKey = new LinkedHashMap<>();
+		List<ImageDeletion> changed = new ArrayList<>();
+		for (ImageDeletion deletion : due) {
+			awsService.toObjectKey(deletion.getImagePath()).ifPresentOrElse(
+				key -> byObjectKey.computeIfAbsent(key, k -> new ArrayList<>()).add(deletion),
+				() -> {
+					deletion.dead("버킷에 속하지 않는 이미지 경로입니다.");
+					changed.add(deletion);
+				});
+		}
+
+		Map<String, String> failed = byObjectKey.isEmpty() ? Map.of() : awsService.deleteObjects(byObjectKey.keySet());
+
+		List<Long> deleted = new ArrayList<>();
+		byObjectKey.forEach((key, deletions) -> {
+			String error = failed.get(key);
+			for (ImageDeletion deletion : deletions) {
+				if (error == null) {
+					deleted.add(deletion.getId());
+				} else {
+					deletion.fail(error, maxAttempts, backoffMillis);
+					changed.add(deletion);
+				}
+			}
+		});
+
+		if (!deleted.isEmpty()) {
+			imageDeletionRepository.deleteAllByIdInBatch(deleted);
+		}
+		if (!changed.isEmpty()) {
+			imageDeletionRepository.saveAll(changed);
+		}
+		log.info("이미지 삭제 대기열 처리 완료 대상 {}건, 삭제 {}건, 실패 {}건", due.size(), deleted.size(), changed.size());
+		return candidates.size();
+	}
+}
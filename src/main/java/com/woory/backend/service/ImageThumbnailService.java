@@ -0,0 +1,70 @@
+package com.woory.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.woory.backend.domain.ContentImageSavedEvent;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.utils.PhotoUtils;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시물 이미지가 저장되면 커밋 이후 imageExecutor 에서 고정 너비의 jpeg 썸네일을 만든다.
+ * 썸네일은 thumbnails/{너비}/ 아래 원본과 같은 이름으로 저장하며, 만들어지기 전이나 실패한 경우에는 원본 이미지를 쓰면 된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageThumbnailService {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageThumbnailService.class);
+	// 달력 칸, 즐겨찾기 목록에 쓰는 너비
+	public static final int THUMBNAIL_WIDTH = 160;
+	public static final int PREVIEW_WIDTH = 480;
+
+	private final AwsService awsService;
+	private final ContentRepository contentRepository;
+	private final ImageDeletionService imageDeletionService;
+
+	@Async("imageExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void createThumbnails(ContentImageSavedEvent event) {
+		String objectKey = awsService.toObjectKey(event.getImagePath()).orElse(null);
+		if (objectKey == null) {
+			return;
+		}
+
+		Map<Integer, byte[]> thumbnails;
+		try (InputStream in = awsService.openObject(objectKey)) {
+			thumbnails = PhotoUtils.createJpegThumbnails(in, THUMBNAIL_WIDTH, PREVIEW_WIDTH);
+		} catch (IOException | RuntimeException e) {
+			log.warn("썸네일 생성 실패 contentId={}, image={}", event.getContentId(), objectKey, e);
+			return;
+		}
+
+		String thumbnailPath = saveThumbnail(objectKey, THUMBNAIL_WIDTH, thumbnails.get(THUMBNAIL_WIDTH));
+		String previewPath = saveThumbnail(objectKey, PREVIEW_WIDTH, thumbnails.get(PREVIEW_WIDTH));
+
+		int updated = contentRepository.updateThumbnails(event.getContentId(), event.getImagePath(), thumbnailPath,
+			previewPath);
+		// 그 사이 게시물이 삭제되었거나 이미지가 바뀐 경우
+		if (updated == 0) {
+			imageDeletionService.enqueue(thumbnailPath);
+			imageDeletionService.enqueue(previewPath);
+		}
+	}
+
+	private String saveThumbnail(String objectKey, int width, byte[] bytes) {
+		int extension = objectKey.lastIndexOf('.');
+		String name = extension < 0 ? objectKey : objectKey.substring(0, extension);
+		return awsService.saveBytes("thumbnails/" + width + "/" + name + ".jpg", bytes, "image/jpeg");
+	}
+}
@@ -0,0 +1,122 @@
+package com.woory.backend.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woory.backend.entity.KakaoUnlink;
+import com.woory.backend.entity.KakaoUnlinkStatus;
+import com.woory.backend.repository.KakaoUnlinkRepository;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 카카오 연결 끊기 대기열
+ * 탈퇴한 사용자의 연결 끊기는 호출한 쪽 트랜잭션 안에서 kakao_unlink 테이블에 기록하고, 커밋된 뒤 바로 한 번 보낸다.
+ * 회로가 열려 있거나 재시도를 모두 실패해 보내지 못한 항목은 남아 있다가 주기적으로 다시 보내고,
+ * 최대 횟수를 넘기면 DEAD 상태로 남긴다. 여러 서버가 같은 항목을 동시에 보내지 않도록 처리 전에 선점한다.
+ */
+@Service
+public class KakaoUnlinkService {
+
+	private static final Logger log = LoggerFactory.getLogger(KakaoUnlinkService.class);
+
+	private final KakaoUnlinkRepository kakaoUnlinkRepository;
+	private final OAuthProviderClient oAuthProviderClient;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long backoffMillis;
+	private final long claimTimeoutMillis;
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public KakaoUnlinkService(KakaoUnlinkRepository kakaoUnlinkRepository, OAuthProviderClient oAuthProviderClient,
+		@Value("${oauth.provider.unlink.batch-size:100}") int batchSize,
+		@Value("${oauth.provider.unlink.max-attempts:10}") int maxAttempts,
+		@Value("${oauth.provider.unlink.backoff-ms:60000}") long backoffMillis,
+		@Value("${oauth.provider.unlink.claim-timeout-ms:300000}") long claimTimeoutMillis) {
+		this.kakaoUnlinkRepository = kakaoUnlinkRepository;
+		this.oAuthProviderClient = oAuthProviderClient;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.backoffMillis = backoffMillis;
+		this.claimTimeoutMillis = claimTimeoutMillis;
+	}
+
+	@Transactional
+	public void enqueue(String kakaoId) {
+		KakaoUnlink unlink = kakaoUnlinkRepository.save(
+			KakaoUnlink.of(kakaoId, new Date(System.currentTimeMillis() + backoffMillis)));
+		// 바로 보낸 호출이 성공하면 대기열에서 지우고, 실패하거나 건너뛰면 drain 에서 다시 보냄
+		oAuthProviderClient.dispatch(oAuthProviderClient.unlinkKakaoRequest(kakaoId)
+			.publishOn(Schedulers.boundedElastic())
+			.doOnNext(done -> {
+				if (done) {
+					kakaoUnlinkRepository.deleteById(unlink.getId());
+				}
+			}));
+	}
+
+	@Scheduled(fixedDelayString = "${oauth.provider.unlink.interval-ms:60000}")
+	public void drain() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// 한 번에 가득 찼다면 남은 항목이 있을 수 있으므로 이어서 처리
+			int processed;
+			do {
+				processed = drainBatch();
+			} while (processed == batchSize);
+		} catch (RuntimeException e) {
+			log.error("카카오 연결 끊기 대기열 처리 실패", e);
+		} finally {
+			running.set(false);
+		}
+	}
+
+	private int drainBatch() {
+		Date now = new Date();
+		List<KakaoUnlink> candidates = kakaoUnlinkRepository.findDue(KakaoUnlinkStatus.PENDING, now,
+			PageRequest.of(0, batchSize));
+		if (candidates.isEmpty()) {
+			return 0;
+		}
+
+		// 다른 서버가 먼저 선점한 항목은 빠짐
+		String claimedBy = UUID.randomUUID().toString();
+		kakaoUnlinkRepository.claim(candidates.stream().map(KakaoUnlink::getId).toList(),
+			KakaoUnlinkStatus.PENDING, now, claimedBy, new Date(now.getTime() + claimTimeoutMillis));
+		List<KakaoUnlink> due = kakaoUnlinkRepository.findByClaimedByOrderByIdAsc(claimedBy);
+
+		// 한 건씩 기다리며 보내므로 동시에 나가는 호출은 하나뿐
+		List<Long> done = new ArrayList<>();
+		List<KakaoUnlink> failed = new ArrayList<>();
+		for (KakaoUnlink unlink : due) {
+			if (Boolean.TRUE.equals(oAuthProviderClient.unlinkKakaoRequest(unlink.getKakaoId()).block())) {
+				done.add(unlink.getId());
+			} else {
+				unlink.fail("카카오 연결 끊기 호출 실패", maxAttempts, backoffMillis);
+				failed.add(unlink);
+			}
+		}
+
+		if (!done.isEmpty()) {
+			kakaoUnlinkRepository.deleteAllByIdInBatch(done);
+		}
+		if (!failed.isEmpty()) {
+			kakaoUnlinkRepository.saveAll(failed);
+		}
+		log.info("카카오 연결 끊기 대기열 처리 완료 대상 {}건, 성공 {}건, 실패 {}건", due.size(), done.size(), failed.size());
+		return candidates.size();
+	}
+}
@@ -0,0 +1,242 @@
+package com.woory.backend.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 서버 한 대에 연결된 알림 스트림(SSE)을 (그룹, 유저) 단위로 관리한다.
+ * 전송은 구독자마다 크기가 제한된 큐에 쌓은 뒤 별도 스레드에서 내보내므로
+ * 알림을 저장한 스레드가 느린 클라이언트 때문에 막히지 않는다.
+ * 큐가 가득 찬 구독자는 연결을 끊고, 클라이언트는 재연결 후 목록 API로 누락분을 가져간다.
+ */
+@Component
+public class NotificationEmitterRegistry {
+
+	private static final Logger log = LoggerFactory.getLogger(NotificationEmitterRegistry.class);
+
+	private final Map<Long, Map<Long, Queue<Subscriber>>> subscribers = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final ThreadPoolExecutor sender;
+	private final long timeoutMillis;
+	private final int queueCapacity;
+	private final int maxPerUser;
+
+	public NotificationEmitterRegistry(
+		@Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+		@Value("${notification.stream.queue-capacity:32}") int queueCapacity,
+		@Value("${notification.stream.max-per-user:5}") int maxPerUser,
+		@Value("${notification.stream.sender-threads:4}") int senderThreads
+	) {
+		this.timeoutMillis = timeoutMillis;
+		this.queueCapacity = queueCapacity;
+		this.maxPerUser = maxPerUser;
+		this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(10_000), runnable -> {
+			Thread thread = new Thread(runnable, "notification-sse");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public SseEmitter subscribe(Long groupId, Long userId) {
+		SseEmitter emitter = createEmitter();
+		Subscriber subscriber = new Subscriber(groupId, userId, emitter);
+
+		// 등록과 정리가 동시에 일어나도 빈 큐가 지워지지 않도록 compute 안에서 추가
+		subscribers.compute(groupId, (gid, groupSubscribers) -> {
+			Map<Long, Queue<Subscriber>> users = groupSubscribers == null ? new ConcurrentHashMap<>() : groupSubscribers;
+			users.compute(userId, (uid, userSubscribers) -> {
+				Queue<Subscriber> queue = userSubscribers == null ? new ConcurrentLinkedQueue<>() : userSubscribers;
+				queue.add(subscriber);
+				return queue;
+			});
+			return users;
+		});
+		subscriberCount.incrementAndGet();
+
+		// 탭을 계속 여는 경우 오래된 연결부터 정리
+		Queue<Subscriber> userSubscribers = subscribers.getOrDefault(groupId, Map.of()).get(userId);
+		while (userSubscribers != null && userSubscribers.size() > maxPerUser) {
+			Subscriber oldest = userSubscribers.peek();
+			if (oldest == null) {
+				break;
+			}
+			oldest.close();
+		}
+
+		emitter.onCompletion(subscriber::remove);
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(e -> subscriber.close());
+
+		// 연결 직후 응답 헤더가 바로 내려가도록 첫 이벤트 전송
+		subscriber.enqueue(SseEmitter.event().name("connect").data("connected"));
+		return emitter;
+	}
+
+	SseEmitter createEmitter() {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	public boolean hasSubscribers(Long groupId) {
+		Map<Long, Queue<Subscriber>> groupSubscribers = subscribers.get(groupId);
+		return groupSubscribers != null && !groupSubscribers.isEmpty();
+	}
+
+	public boolean hasSubscriber(Long groupId, Long userId) {
+		Map<Long, Queue<Subscriber>> groupSubscribers = subscribers.get(groupId);
+		return groupSubscribers != null && groupSubscribers.containsKey(userId);
+	}
+
+	public Set<Long> getSubscribedGroupIds() {
+		return Set.copyOf(subscribers.keySet());
+	}
+
+	public int getSubscriberCount() {
+		return subscriberCount.get();
+	}
+
+	// 그룹 전체 알림, excludeUserId 는 글 작성자 본인 제외용
+	public void sendToGroup(Long groupId, Long excludeUserId, Object data) {
+		Map<Long, Queue<Subscriber>> groupSubscribers = subscribers.get(groupId);
+		if (groupSubscribers == null) {
+			return;
+		}
+		groupSubscribers.forEach((userId, userSubscribers) -> {
+			if (!userId.equals(excludeUserId)) {
+				userSubscribers.forEach(s -> s.enqueue(notificationEvent(data)));
+			}
+		});
+	}
+
+	public void sendToUser(Long groupId, Long userId, Object data) {
+		Map<Long, Queue<Subscriber>> groupSubscribers = subscribers.get(groupId);
+		if (groupSubscribers == null) {
+			return;
+		}
+		Queue<Subscriber> userSubscribers = groupSubscribers.get(userId);
+		if (userSubscribers != null) {
+			userSubscribers.forEach(s -> s.enqueue(notificationEvent(data)));
+		}
+	}
+
+	// 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+	@Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+	public void heartbeat() {
+		subscribers.values().forEach(groupSubscribers ->
+			groupSubscribers.values().forEach(userSubscribers ->
+				userSubscribers.forEach(s -> s.enqueue(SseEmitter.event().comment("heartbeat")))));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		subscribers.values().forEach(groupSubscribers ->
+			groupSubscribers.values().forEach(userSubscribers ->
+				userSubscribers.forEach(Subscriber::close)));
+		sender.shutdownNow();
+	}
+
+	private SseEmitter.SseEventBuilder notificationEvent(Object data) {
+		return SseEmitter.event().name("notification").data(data);
+	}
+
+	private class Subscriber {
+		private final Long groupId;
+		private final Long userId;
+		private final SseEmitter emitter;
+		private final Queue<SseEmitter.SseEventBuilder> pending;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		Subscriber(Long groupId, Long userId, SseEmitter emitter) {
+			this.groupId = groupId;
+			this.userId = userId;
+			this.emitter = emitter;
+			this.pending = new ArrayBlockingQueue<>(queueCapacity);
+		}
+
+		void enqueue(SseEmitter.SseEventBuilder event) {
+			if (closed.get()) {
+				return;
+			}
+			if (!pending.offer(event)) {
+				log.warn("알림 스트림 전송이 밀려 연결을 종료합니다. groupId={}, userId={}", groupId, userId);
+				close();
+				return;
+			}
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (!draining.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				sender.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				draining.set(false);
+				close();
+			}
+		}
+
+		private void drain() {
+			try {
+				SseEmitter.SseEventBuilder event;
+				while (!closed.get() && (event = pending.poll()) != null) {
+					emitter.send(event);
+				}
+			} catch (IOException | IllegalStateException e) {
+				close();
+			} finally {
+				draining.set(false);
+			}
+			// 전송 중에 새로 쌓인 이벤트가 있으면 이어서 처리
+			if (!closed.get() && !pending.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+
+		void close() {
+			remove();
+			try {
+				emitter.complete();
+			} catch (IllegalStateException ignored) {
+				// 이미 종료된 연결
+			}
+		}
+
+		void remove() {
+			if (!closed.compareAndSet(false, true)) {
+				return;
+			}
+			pending.clear();
+			subscriberCount.decrementAndGet();
+			subscribers.computeIfPresent(groupId, (gid, groupSubscribers) -> {
+				groupSubscribers.computeIfPresent(userId, (uid, userSubscribers) -> {
+					userSubscribers.remove(this);
+					return userSubscribers.isEmpty() ? null : userSubscribers;
+				});
+				return groupSubscribers.isEmpty() ? null : groupSubscribers;
+			});
+		}
+	}
+}
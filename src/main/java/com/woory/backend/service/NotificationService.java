@@ -1,46 +1,118 @@
 package com.woory.backend.service;
 
+import java.util.Date;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.woory.backend.domain.NotificationCreatedEvent;
 import com.woory.backend.dto.NotificationDto;
 import com.woory.backend.dto.NotificationResponseDto;
 import com.woory.backend.entity.Notification;
 import com.woory.backend.entity.NotificationType;
-import com.woory.backend.error.CustomException;
 import com.woory.backend.error.ErrorCode;
 import com.woory.backend.repository.GroupUserRepository;
 import com.woory.backend.repository.NotificationRepository;
 import com.woory.backend.utils.SecurityUtil;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 	private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+	public static final int MAX_PAGE_SIZE = 50;
+	private static final int PUSH_CHUNK_SIZE = 500;
+	// 첫 페이지 조회 시 사용하는 커서 (모든 알림보다 뒤)
+	private static final Date LATEST_CURSOR_DATE = new Date(253402300799000L);
 	private final NotificationRepository notificationRepository;
 	private final GroupUserRepository groupUserRepository;
+	private final GroupMembershipCache groupMembershipCache;
+	private final NotificationEmitterRegistry emitterRegistry;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public void storeNotification(Notification notification) {
-		notificationRepository.save(notification);
+		storeNotifications(List.of(notification));
 	}
 
-	public List<NotificationResponseDto> getNotifications(Long groupId) {
+	@Transactional
+	public void storeNotifications(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+		notificationRepository.saveAll(notifications);
+		eventPublisher.publishEvent(new NotificationCreatedEvent(notifications));
+	}
+
+	public SseEmitter subscribe(Long groupId) {
+		Long userId = SecurityUtil.getCurrentUserId();
+
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
+
+		return emitterRegistry.subscribe(groupId, userId);
+	}
+
+	// 일괄 생성된 토픽 알림 중 이 서버에 구독자가 있는 그룹의 알림만 읽어서 전송
+	public void pushTopicNotifications(Date topicDate) {
+		List<Long> groupIds = List.copyOf(emitterRegistry.getSubscribedGroupIds());
+		for (int from = 0; from < groupIds.size(); from += PUSH_CHUNK_SIZE) {
+			List<Long> chunk = groupIds.subList(from, Math.min(from + PUSH_CHUNK_SIZE, groupIds.size()));
+			pushNotifications(new NotificationCreatedEvent(
+				notificationRepository.findTopicNotificationsByGroupIds(chunk, topicDate)));
+		}
+	}
+
+	/**
+	 * 커밋된 알림만 스트림으로 전송, 트랜잭션 밖에서 저장된 경우에는 바로 전송
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void pushNotifications(NotificationCreatedEvent event) {
+		for (Notification n : event.getNotifications()) {
+			// 이 서버에 연결된 구독자가 있는 알림만 처리
+			if (!hasSubscriber(n)) {
+				continue;
+			}
+			NotificationResponseDto data = NotificationResponseDto.fromNotification(n);
+			if (isGroupNotification(n)) {
+				emitterRegistry.sendToGroup(n.getGroupId(), n.getContentUserId(), data);
+			} else {
+				emitterRegistry.sendToUser(n.getGroupId(), n.getUserId(), data);
+			}
+		}
+	}
+
+	private boolean hasSubscriber(Notification n) {
+		if (isGroupNotification(n)) {
+			return emitterRegistry.hasSubscribers(n.getGroupId());
+		}
+		return n.getUserId() != null && emitterRegistry.hasSubscriber(n.getGroupId(), n.getUserId());
+	}
+
+	private boolean isGroupNotification(Notification n) {
+		return n.getNotificationType() == NotificationType.TOPIC || n.getNotificationType() == NotificationType.CONTENT;
+	}
+
+	// beforeDate, beforeId 가 없으면 가장 최근 알림부터 조회
+	@Transactional(readOnly = true)
+	public List<NotificationResponseDto> getNotifications(Long groupId, Long beforeDate, Long beforeId, int size) {
 		Long userId = SecurityUtil.getCurrentUserId();
 
-		groupUserRepository.findByUser_UserIdAndGroup_GroupId(userId, groupId)
-			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND_IN_GROUP));
+		groupMembershipCache.getStatusOrThrow(userId, groupId, ErrorCode.USER_NOT_FOUND_IN_GROUP);
 
-		List<NotificationDto> allByUserId = notificationRepository.findAllByUserId(groupId, userId);
-		allByUserId.removeIf(n -> n.getContentUserId() != null && n.getContentUserId().equals(userId));
+		Date cursorDate = beforeDate == null ? LATEST_CURSOR_DATE : new Date(beforeDate);
+		Long cursorId = beforeId == null ? Long.MAX_VALUE : beforeId;
+		List<NotificationDto> notifications = notificationRepository.findAllByUserIdBefore(groupId, userId,
+			cursorDate, cursorId, size);
 
-		return allByUserId.stream()
+		return notifications.stream()
 			.map(this::byNotificationType)
 			.toList();
 	}
@@ -0,0 +1,189 @@
+package com.woory.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.woory.backend.utils.CircuitBreaker;
+
+import io.netty.channel.ChannelOption;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
+
+/**
+ * 네이버/카카오 토큰 폐기, 카카오 연결 끊기 호출
+ * 사용자 응답과 상관없는 호출이라 기다리지 않고 백그라운드로 보낸다. 트랜잭션 안에서 부르면 커밋된 뒤에 보낸다.
+ * 5xx, 타임아웃, 연결 실패만 재시도하고, 제공자별로 계속 실패하면 회로를 열어 잠시 호출하지 않는다.
+ * 동시에 보내는 백그라운드 호출 수는 제한하며, 넘치는 호출은 보내지 않는다.
+ * 카카오 연결 끊기는 실패해도 다시 보내야 하므로 KakaoUnlinkService 의 대기열을 거친다.
+ */
+@Component
+public class OAuthProviderClient {
+
+	private static final Logger log = LoggerFactory.getLogger(OAuthProviderClient.class);
+	private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
+	private final WebClient naverClient;
+	private final WebClient kakaoClient;
+	private final String kakaoAdminKey;
+	private final Duration responseTimeout;
+	private final int maxRetries;
+	private final CircuitBreaker naverBreaker;
+	private final CircuitBreaker kakaoBreaker;
+	private final int maxInFlight;
+	private final Semaphore inFlight;
+
+	public OAuthProviderClient(
+		@Value("${oauth.provider.naver-base-url:https://nid.naver.com}") String naverBaseUrl,
+		@Value("${oauth.provider.kakao-base-url:https://kapi.kakao.com}") String kakaoBaseUrl,
+		@Value("${reg_info.kakao.admin-key}") String kakaoAdminKey,
+		@Value("${oauth.provider.connect-timeout-ms:1000}") int connectTimeoutMs,
+		@Value("${oauth.provider.response-timeout-ms:3000}") long responseTimeoutMs,
+		@Value("${oauth.provider.max-retries:2}") int maxRetries,
+		@Value("${oauth.provider.circuit-failure-threshold:5}") int failureThreshold,
+		@Value("${oauth.provider.circuit-open-seconds:30}") long openSeconds,
+		@Value("${oauth.provider.max-in-flight:64}") int maxInFlight) {
+		this.responseTimeout = Duration.ofMillis(responseTimeoutMs);
+		HttpClient httpClient = HttpClient.create()
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+			.responseTimeout(responseTimeout);
+		this.naverClient = webClient(naverBaseUrl, httpClient);
+		this.kakaoClient = webClient(kakaoBaseUrl, httpClient);
+		this.kakaoAdminKey = kakaoAdminKey;
+		this.maxRetries = maxRetries;
+		this.naverBreaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds), Clock.systemUTC());
+		this.kakaoBreaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds), Clock.systemUTC());
+		this.maxInFlight = maxInFlight;
+		this.inFlight = new Semaphore(maxInFlight);
+	}
+
+	// 로그인에 쓴 제공자 토큰은 더 쓰지 않으므로 바로 폐기
+	public void revokeToken(ClientRegistration registration, String accessToken) {
+		dispatch(revokeTokenRequest(registration, accessToken));
+	}
+
+	// 결과가 true 면 처리가 끝난 것(성공 또는 4xx 거절), false 면 나중에 다시 보내야 함(회로 열림, 재시도 소진)
+	Mono<Boolean> revokeTokenRequest(ClientRegistration registration, String accessToken) {
+		String registrationId = registration.getRegistrationId();
+		if (registrationId.equals("naver")) {
+			MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+			params.add("grant_type", "delete"); // 토큰 삭제 시 delete
+			params.add("client_id", registration.getClientId());
+			params.add("client_secret", registration.getClientSecret());
+			params.add("access_token", accessToken);
+			return call("naver token revoke", naverBreaker, naverClient.post()
+				.uri("/oauth2.0/token")
+				.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+				.body(BodyInserters.fromFormData(params))
+				.retrieve()
+				.bodyToMono(String.class));
+		}
+		if (registrationId.equals("kakao")) {
+			return call("kakao logout", kakaoBreaker, kakaoClient.post()
+				.uri("/v1/user/logout")
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+				.retrieve()
+				.bodyToMono(String.class));
+		}
+		return Mono.just(true);
+	}
+
+	Mono<Boolean> unlinkKakaoRequest(String kakaoId) {
+		MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+		body.add("target_id_type", "user_id");
+		body.add("target_id", kakaoId);
+		return call("kakao unlink", kakaoBreaker, kakaoClient.post()
+			.uri("/v1/user/unlink")
+			.header("Authorization", "KakaoAK " + kakaoAdminKey)
+			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
+			.body(BodyInserters.fromFormData(body))
+			.retrieve()
+			.bodyToMono(String.class));
+	}
+
+	private Mono<Boolean> call(String action, CircuitBreaker breaker, Mono<String> request) {
+		return Mono.defer(() -> {
+			if (!breaker.tryAcquire()) {
+				log.warn("{} 호출을 건너뜁니다. 회로가 열려 있습니다.", action);
+				return Mono.just(false);
+			}
+			return request
+				.timeout(responseTimeout)
+				.retryWhen(Retry.backoff(maxRetries, RETRY_BACKOFF).filter(this::isRetryable))
+				.doOnSuccess(response -> {
+					breaker.onSuccess();
+					log.info("{} response = {}", action, response);
+				})
+				.map(response -> true)
+				.defaultIfEmpty(true)
+				.onErrorResume(e -> {
+					Throwable cause = Exceptions.isRetryExhausted(e) ? e.getCause() : e;
+					if (isRetryable(cause)) {
+						breaker.onFailure();
+						log.error("{} 호출 실패", action, cause);
+						return Mono.just(false);
+					}
+					// 4xx 는 제공자가 정상 응답한 것이므로 회로에는 반영하지 않고, 다시 보내도 같은 결과라 끝난 것으로 봄
+					breaker.onSuccess();
+					log.warn("{} 호출 거절: {}", action, cause.getMessage());
+					return Mono.just(true);
+				});
+		});
+	}
+
+	private boolean isRetryable(Throwable e) {
+		if (e instanceof WebClientResponseException responseException) {
+			return responseException.getStatusCode().is5xxServerError();
+		}
+		return e instanceof WebClientRequestException || e instanceof TimeoutException;
+	}
+
+	void dispatch(Mono<?> request) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					subscribe(request);
+				}
+			});
+			return;
+		}
+		subscribe(request);
+	}
+
+	// 제공자가 느려도 대기 중인 호출이 끝없이 쌓이지 않도록 동시에 보내는 수를 제한
+	private void subscribe(Mono<?> request) {
+		if (!inFlight.tryAcquire()) {
+			log.warn("진행 중인 외부 호출이 {}건을 넘어 호출을 건너뜁니다.", maxInFlight);
+			return;
+		}
+		request.doFinally(signal -> inFlight.release()).subscribe();
+	}
+
+	private static WebClient webClient(String baseUrl, HttpClient httpClient) {
+		return WebClient.builder()
+			.baseUrl(baseUrl)
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.build();
+	}
+}
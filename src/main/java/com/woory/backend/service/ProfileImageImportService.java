@@ -0,0 +1,46 @@
+package com.woory.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.woory.backend.domain.ProfileImageImportEvent;
+import com.woory.backend.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 첫 로그인 때 제공자(네이버, 카카오)의 프로필 이미지를 profileImageExecutor 에서 가져와 S3 에 올리고 프로필을 바꾼다.
+ * 가져오지 못하면 기본 이미지를 그대로 쓴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileImageImportService {
+
+	private static final Logger log = LoggerFactory.getLogger(ProfileImageImportService.class);
+
+	private final AwsService awsService;
+	private final UserRepository userRepository;
+	private final ImageDeletionService imageDeletionService;
+
+	@Async("profileImageExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void importProfileImage(ProfileImageImportEvent event) {
+		String imagePath;
+		try {
+			imagePath = awsService.saveFileFromUrl(event.getSourceUrl());
+		} catch (RuntimeException e) {
+			log.warn("프로필 이미지 가져오기 실패 userId={}, url={}", event.getUserId(), event.getSourceUrl(), e);
+			return;
+		}
+
+		int updated = userRepository.updateProfileImage(event.getUserId(), event.getDefaultImage(), imagePath);
+		// 그 사이 탈퇴했거나 사용자가 이미지를 바꾼 경우
+		if (updated == 0) {
+			imageDeletionService.enqueue(imagePath);
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package com.woory.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.woory.backend.entity.TopicGenerationProgress;
+import com.woory.backend.entity.TopicSet;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.TopicGenerationProgressRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.utils.TopicManager;
+import com.woory.backend.utils.TopicSetCatalog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 자정 토픽 생성 작업
+ * 그룹 아이디를 keyset 방식으로 chunkSize 만큼 나눈 구간마다 INSERT ... SELECT 한 번으로 토픽을 만들고,
+ * 구간들은 제한된 스레드 풀에서 병렬로 처리한다. 한 번에 스레드 수만큼의 구간을 처리한 뒤
+ * 진행 상황을 저장하므로, 도중에 서버가 죽어도 재시작 시 마지막 저장 지점부터 이어서 처리한다.
+ * 이미 토픽이 있는 그룹은 건너뛰므로 같은 구간을 다시 처리해도 중복이 생기지 않는다.
+ * 작업이 실행 중일 때 다른 날짜를 요청하면 그 날짜의 진행 상황만 남기고, 실행 중인 작업이 이어서 처리한다.
+ */
+@Component
+public class TopicGenerationJob {
+
+	private static final Logger log = LoggerFactory.getLogger(TopicGenerationJob.class);
+
+	private final GroupRepository groupRepository;
+	private final TopicRepository topicRepository;
+	private final TopicGenerationProgressRepository progressRepository;
+	private final TopicSetCatalog topicSetCatalog;
+	private final int chunkSize;
+	private final int threads;
+	private final ExecutorService workers;
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final Timer chunkTimer;
+	private final Counter insertedCounter;
+
+	public TopicGenerationJob(GroupRepository groupRepository, TopicRepository topicRepository,
+		TopicGenerationProgressRepository progressRepository, TopicSetCatalog topicSetCatalog,
+		MeterRegistry meterRegistry,
+		@Value("${topic.generation.chunk-size:1000}") int chunkSize,
+		@Value("${topic.generation.threads:4}") int threads) {
+		this.groupRepository = groupRepository;
+		this.topicRepository = topicRepository;
+		this.progressRepository = progressRepository;
+		this.topicSetCatalog = topicSetCatalog;
+		this.chunkSize = chunkSize;
+		this.threads = threads;
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(threads), runnable -> {
+			Thread thread = new Thread(runnable, "topic-generation-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.chunkTimer = Timer.builder("topic.generation.chunk")
+			.description("토픽 생성 구간 하나를 처리하는 데 걸린 시간")
+			.register(meterRegistry);
+		this.insertedCounter = Counter.builder("topic.generation.inserted")
+			.description("자정 작업으로 생성된 토픽 수")
+			.register(meterRegistry);
+	}
+
+	// 서버가 작업 도중 종료되었다면 날짜와 상관없이 끝나지 않은 작업을 오래된 날짜부터 이어서 처리
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeUnfinished() {
+		if (progressRepository.findByCompletedFalseOrderByIssueDateAsc().isEmpty()) {
+			return;
+		}
+		CompletableFuture.runAsync(this::drain);
+	}
+
+	public void run(LocalDate issueDate) {
+		record(issueDate);
+		drain();
+	}
+
+	// 실행 중인 작업이 가져갈 수 있도록 날짜의 진행 상황을 먼저 남김
+	private void record(LocalDate issueDate) {
+		if (!progressRepository.existsById(issueDate)) {
+			progressRepository.save(TopicGenerationProgress.start(issueDate, (long)TopicManager.pollTopicOfToday()));
+		}
+	}
+
+	// 끝나지 않은 날짜를 모두 처리, 이미 실행 중이면 실행 중인 작업이 남은 날짜까지 처리
+	private void drain() {
+		Set<LocalDate> failed = new HashSet<>();
+		while (running.compareAndSet(false, true)) {
+			try {
+				generateUnfinished(failed);
+			} finally {
+				running.set(false);
+			}
+			// 끝내는 사이 다른 요청이 남긴 날짜가 있으면 다시 처리, 실패한 날짜는 다음 실행이나 재시작 때 처리
+			if (progressRepository.findByCompletedFalseOrderByIssueDateAsc().stream()
+				.allMatch(progress -> failed.contains(progress.getIssueDate()))) {
+				return;
+			}
+		}
+		log.info("토픽 생성 작업이 이미 실행 중이라 남은 날짜는 실행 중인 작업이 이어서 처리합니다.");
+	}
+
+	private void generateUnfinished(Set<LocalDate> failed) {
+		for (TopicGenerationProgress progress : progressRepository.findByCompletedFalseOrderByIssueDateAsc()) {
+			if (failed.contains(progress.getIssueDate())) {
+				continue;
+			}
+			log.info("토픽 생성 작업 시작 issueDate={}, lastGroupId={}", progress.getIssueDate(),
+				progress.getLastGroupId());
+			try {
+				generate(progress);
+			} catch (RuntimeException e) {
+				failed.add(progress.getIssueDate());
+				log.error("토픽 생성 작업 실패, 재시작 시 이어서 처리합니다. issueDate={}", progress.getIssueDate(), e);
+			}
+		}
+	}
+
+	private void generate(TopicGenerationProgress progress) {
+		LocalDate issueDate = progress.getIssueDate();
+		TopicSet topicSet = topicSetCatalog.findById(progress.getTopicSetId())
+			.orElseThrow(() -> new CustomException(ErrorCode.TOPIC_NOT_FOUND));
+
+		long startedAt = System.currentTimeMillis();
+		int total = 0;
+		long afterGroupId = progress.getLastGroupId();
+		while (true) {
+			List<long[]> ranges = nextRanges(afterGroupId);
+			if (ranges.isEmpty()) {
+				break;
+			}
+
+			List<Future<Integer>> results = new ArrayList<>();
+			for (long[] range : ranges) {
+				results.add(workers.submit(() -> insertChunk(topicSet, issueDate, range[0], range[1])));
+			}
+			total += await(results);
+
+			// 이번 구간들이 모두 끝난 뒤에만 진행 지점을 옮김
+			afterGroupId = ranges.get(ranges.size() - 1)[1];
+			progress.setLastGroupId(afterGroupId);
+			progress.setUpdatedAt(new Date());
+			progress = progressRepository.save(progress);
+		}
+
+		progress.setCompleted(true);
+		progress.setUpdatedAt(new Date());
+		progressRepository.save(progress);
+		log.info("토픽 생성 완료 issueDate={}, 생성 {}건, {}ms", issueDate, total, System.currentTimeMillis() - startedAt);
+	}
+
+	// afterGroupId 이후 그룹을 chunkSize 씩 최대 threads 개 구간으로 나눔, 구간은 (시작, 끝]
+	private List<long[]> nextRanges(long afterGroupId) {
+		List<long[]> ranges = new ArrayList<>();
+		long from = afterGroupId;
+		while (ranges.size() < threads) {
+			List<Long> groupIds = groupRepository.findGroupIdsAfter(from, PageRequest.of(0, chunkSize));
+			if (groupIds.isEmpty()) {
+				break;
+			}
+			long to = groupIds.get(groupIds.size() - 1);
+			ranges.add(new long[] {from, to});
+			from = to;
+		}
+		return ranges;
+	}
+
+	private int insertChunk(TopicSet topicSet, LocalDate issueDate, long afterGroupId, long lastGroupId) {
+		return chunkTimer.record(() -> {
+			int inserted;
+			try {
+				inserted = topicRepository.insertMissingTopics(topicSet, issueDate, afterGroupId, lastGroupId);
+			} catch (DataIntegrityViolationException e) {
+				// 같은 순간 조회 요청이 토픽을 만든 경우, 다시 실행하면 그 그룹은 건너뜀
+				inserted = topicRepository.insertMissingTopics(topicSet, issueDate, afterGroupId, lastGroupId);
+			}
+			insertedCounter.increment(inserted);
+			log.debug("토픽 생성 구간 ({}, {}] {}건", afterGroupId, lastGroupId, inserted);
+			return inserted;
+		});
+	}
+
+	private int await(List<Future<Integer>> results) {
+		int inserted = 0;
+		try {
+			for (Future<Integer> result : results) {
+				inserted += result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("토픽 생성 작업이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("토픽 생성 구간 처리 중 오류가 발생했습니다.", e.getCause());
+		}
+		return inserted;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+}
@@ -0,0 +1,37 @@
+package com.woory.backend.service;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.TopicSet;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.utils.TopicSetCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아직 토픽이 없는 날짜를 조회했을 때 호출한 쪽 트랜잭션 안에서 토픽을 만든다.
+ * (group_id, issue_date) 유니크 제약에 걸리는 삽입은 무시되므로 동시에 여러 요청이 들어와도 토픽은 하나만 생기고
+ * 늦게 들어온 요청은 먼저 생긴 토픽을 그대로 가져간다. 새 트랜잭션을 열지 않아 요청당 커넥션은 하나만 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TopicMaterializer {
+
+	private final TopicRepository topicRepository;
+	private final TopicSetCatalog topicSetCatalog;
+
+	@Transactional
+	public Topic getOrCreate(Long groupId, LocalDate date) {
+		TopicSet topicSet = topicSetCatalog.random();
+		topicRepository.insertTopicIfAbsent(groupId, date, topicSet.getValue(), topicSet.getTopic_byte());
+		// 일반 읽기는 트랜잭션의 첫 읽기 시점 스냅샷을 보므로, 다른 요청이 먼저 커밋한 토픽도 보이도록 잠금 읽기
+		return topicRepository.findForShareByGroupIdAndIssueDate(groupId, date)
+			.orElseThrow(() -> new CustomException(ErrorCode.TOPIC_NOT_FOUND));
+	}
+}
@@ -1,24 +1,18 @@
 package com.woory.backend.service;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.List;
 
-import com.woory.backend.entity.Notification;
-import com.woory.backend.error.CustomException;
-import com.woory.backend.error.ErrorCode;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.woory.backend.dto.TopicDto;
-import com.woory.backend.entity.TopicSet;
-import com.woory.backend.repository.GroupRepository;
 import com.woory.backend.repository.NotificationRepository;
 import com.woory.backend.repository.TopicRepository;
-import com.woory.backend.repository.TopicSetRepository;
-import com.woory.backend.utils.TopicManager;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -29,43 +23,45 @@ import lombok.RequiredArgsConstructor;
 public class TopicService {
 
 	private static final Logger log = LoggerFactory.getLogger(TopicService.class);
+	private static final int NOTIFICATION_CHUNK_SIZE = 1000;
 	private final TopicRepository topicRepository;
-	private final GroupRepository groupRepository;
-	private final TopicSetRepository topicSetRepository;
 	private final NotificationRepository notificationRepository;
+	private final TopicGenerationJob topicGenerationJob;
+	private final NotificationService notificationService;
 
+	// 작업이 구간마다 따로 커밋하므로 하나의 트랜잭션으로 묶지 않음
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
 	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 매일 0시에 실행
 	public void generateTopics() {
 		log.info("토픽 생성 시작");
-		// 새 토픽 생성
-		long topic = TopicManager.pollTopicOfToday();
-
-		TopicSet topicSet = topicSetRepository.findTopicSetById(topic)
-			.orElseThrow(() -> new CustomException(ErrorCode.TOPIC_NOT_FOUND));
-		Date now = new Date();
-
-		List<TopicDto> topicDtos = groupRepository.findAll().stream()
-			.map(group ->
-				TopicDto.fromTopicSetWithGroupIdAndDate(topicSet, now, group.getGroupId())
-			).toList();
-
-		topicRepository.saveAll(topicDtos);
+		topicGenerationJob.run(LocalDate.now(ZoneId.of("Asia/Seoul")));
 	}
 
 	/**
 	 * 매일 오전 10시에 토픽알림 생성
+	 * 토픽 아이디 구간마다 INSERT ... SELECT 한 번으로 알림을 만든 뒤, 이 서버에 연결된 구독자에게만 전송
 	 */
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
 	@Scheduled(cron = "0 0 10 * * *", zone = "Asia/Seoul")
 	public void saveTopicNotifications() {
 		log.info("토픽 알람 생성 시작");
 
-		Date today = new Date();
-		List<Notification> notifications = topicRepository.findAllWithGroupsByIssueDate(today)
-			.stream()
-			.map(t -> Notification.fromCreatingTopic(t.getGroup().getGroupId(), t.getTopicId(), t.getIssueDate(),
-				t.getTopicContent(), today))
-			.toList();
+		LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+		Date now = new Date();
+		long afterTopicId = 0L;
+		int total = 0;
+		while (true) {
+			List<Long> topicIds = topicRepository.findTopicIdsByIssueDateAfter(today, afterTopicId,
+				PageRequest.of(0, NOTIFICATION_CHUNK_SIZE));
+			if (topicIds.isEmpty()) {
+				break;
+			}
+			long lastTopicId = topicIds.get(topicIds.size() - 1);
+			total += notificationRepository.insertTopicNotifications(today, now, afterTopicId, lastTopicId);
+			afterTopicId = lastTopicId;
+		}
+		log.info("토픽 알람 생성 완료 {}건", total);
 
-		notificationRepository.saveAll(notifications);
+		notificationService.pushTopicNotifications(java.sql.Date.valueOf(today));
 	}
 }
@@ -3,6 +3,7 @@ package com.woory.backend.service;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.woory.backend.domain.TopicContentsChangedEvent;
 import com.woory.backend.dto.UserMyPageResponseDto;
 import com.woory.backend.entity.Group;
 import com.woory.backend.entity.GroupStatus;
@@ -13,17 +14,14 @@ import com.woory.backend.error.ErrorCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.woory.backend.dto.UserResponseDto;
 import com.woory.backend.entity.User;
+import com.woory.backend.repository.ContentReactionCountRepository;
+import com.woory.backend.repository.ContentRepository;
 import com.woory.backend.repository.GroupRepository;
 import com.woory.backend.repository.GroupUserRepository;
 import com.woory.backend.repository.UserRepository;
@@ -33,29 +31,46 @@ import com.woory.backend.utils.SecurityUtil;
 @Transactional
 public class UserService {
 	private static final Logger log = LoggerFactory.getLogger(UserService.class);
-	private final String KAKAO_KEY;
 	private final UserRepository userRepository;
 	private final GroupUserRepository groupUserRepository;
 	private final GroupRepository groupRepository;
+	private final GroupMembershipCache groupMembershipCache;
+	private final ContentReactionCountRepository contentReactionCountRepository;
+	private final ContentRepository contentRepository;
+	private final GroupDailySummaryService groupDailySummaryService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final KakaoUnlinkService kakaoUnlinkService;
 
 	@Autowired
 	public UserService(
-		@Value("${reg_info.kakao.admin-key}") String kakaoKey,
 		UserRepository userRepository,
 		GroupUserRepository groupUserRepository,
-		GroupRepository groupRepository) {
-		this.KAKAO_KEY = kakaoKey;
+		GroupRepository groupRepository,
+		GroupMembershipCache groupMembershipCache,
+		ContentReactionCountRepository contentReactionCountRepository,
+		ContentRepository contentRepository,
+		GroupDailySummaryService groupDailySummaryService,
+		ApplicationEventPublisher eventPublisher,
+		KakaoUnlinkService kakaoUnlinkService) {
 		this.userRepository = userRepository;
 		this.groupUserRepository = groupUserRepository;
 		this.groupRepository = groupRepository;
+		this.groupMembershipCache = groupMembershipCache;
+		this.contentReactionCountRepository = contentReactionCountRepository;
+		this.contentRepository = contentRepository;
+		this.groupDailySummaryService = groupDailySummaryService;
+		this.eventPublisher = eventPublisher;
+		this.kakaoUnlinkService = kakaoUnlinkService;
 	}
 
+	@Transactional(readOnly = true)
 	public UserResponseDto getMyInfo() {
 		User user = userRepository.findById(SecurityUtil.getCurrentUserId())
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 		return UserResponseDto.fromUser(user);
 	}
 
+	@Transactional(readOnly = true)
 	public UserMyPageResponseDto getUserInfo(long groupId) {
 		Long userId = SecurityUtil.getCurrentUserId();
 
@@ -79,7 +94,8 @@ public class UserService {
 
 		if (user.getUsername().startsWith("kakao")) {
 			String kakaoId = user.getUsername().split("kakao ")[1];
-			unlinkKakao(kakaoId);
+			// 탈퇴가 커밋된 뒤 백그라운드로 연결 끊기, 실패하면 대기열에서 다시 보냄
+			kakaoUnlinkService.enqueue(kakaoId);
 		}
 	}
 
@@ -91,9 +107,13 @@ public class UserService {
 			.orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
 		List<Group> groups = groupRepository.findGroupHasUser(user);
+		// 탈퇴하면 작성한 글도 사라지므로 해당 날짜의 요약을 다시 계산
+		List<Long> topicIds = contentRepository.findTopicIdsByUserId(userId);
 		
 		// 내가 속한 그룹 순회
 		for (Group group : groups) {
+			// 가장 승계, 그룹 삭제로 다른 멤버의 상태도 바뀔 수 있음
+			groupMembershipCache.invalidateGroup(group.getGroupId());
 			List<GroupUser> groupUsers = group.getGroupUsers();
 
 			// 내 그룹 기록 중
@@ -125,35 +145,21 @@ public class UserService {
 					// 내가 가장이고 나만 남은 상태
 					// groupUserRepository.delete(userHistory); 삭제 부분 제
 					groupRepository.delete(group);
+					groupDailySummaryService.deleteByGroupId(group.getGroupId());
 				}
 			}
 		}
 
 		// // orphanremoval 활용
 		// user.getGroupUsers().clear();
+		// 탈퇴하면 다른 사람 글에 남긴 리액션도 사라지므로 집계에서 뺌
+		contentReactionCountRepository.decrementByUserId(userId);
 		userRepository.delete(user);
+		groupMembershipCache.invalidateUser(userId);
+		eventPublisher.publishEvent(new TopicContentsChangedEvent(topicIds));
 		return user;
 	}
 
-
-	private void unlinkKakao(String kakaoId) {
-		WebClient kakaoClient = WebClient.builder()
-			.baseUrl("https://kapi.kakao.com/v1/user/unlink")
-			.build();
-
-		MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-		body.add("target_id_type", "user_id");
-		body.add("target_id", kakaoId);
-
-		String authorization = kakaoClient.post()
-			.header("Authorization", "KakaoAK " + KAKAO_KEY)
-			.contentType(MediaType.APPLICATION_FORM_URLENCODED)
-			.body(BodyInserters.fromFormData(body))
-			.retrieve()
-			.bodyToMono(String.class)
-			.block();
-	}
-
 	public void updateProfile(String filePath, String nickname) {
 		Long userId = SecurityUtil.getCurrentUserId();
 
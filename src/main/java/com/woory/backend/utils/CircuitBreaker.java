@@ -0,0 +1,55 @@
+package com.woory.backend.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 호출이 연속으로 failureThreshold 번 실패하면 openDuration 동안 호출을 막는다.
+ * 시간이 지나면 한 번만 시험 호출을 허용하고, 성공하면 다시 열고 실패하면 다시 막는다.
+ */
+public class CircuitBreaker {
+
+	private final int failureThreshold;
+	private final Duration openDuration;
+	private final Clock clock;
+	private final AtomicInteger failures = new AtomicInteger();
+	private final AtomicBoolean trialInFlight = new AtomicBoolean();
+	private volatile Instant openedAt;
+
+	public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.clock = clock;
+	}
+
+	public boolean tryAcquire() {
+		Instant opened = openedAt;
+		if (opened == null) {
+			return true;
+		}
+		if (clock.instant().isBefore(opened.plus(openDuration))) {
+			return false;
+		}
+		return trialInFlight.compareAndSet(false, true);
+	}
+
+	public void onSuccess() {
+		failures.set(0);
+		openedAt = null;
+		trialInFlight.set(false);
+	}
+
+	public void onFailure() {
+		if (openedAt != null || failures.incrementAndGet() >= failureThreshold) {
+			openedAt = clock.instant();
+		}
+		trialInFlight.set(false);
+	}
+
+	public boolean isOpen() {
+		return openedAt != null;
+	}
+}
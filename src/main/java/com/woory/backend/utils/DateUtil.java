@@ -0,0 +1,34 @@
+package com.woory.backend.utils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 날짜 규칙: 시각은 Instant(UTC)로 저장하고, 토픽 날짜 같은 "하루"는 한국 시간 기준 LocalDate 로 다룬다.
+ * 응답 DTO 는 기존 형식을 유지하기 위해 Date 로 바꿔서 내보낸다.
+ */
+public final class DateUtil {
+	public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private DateUtil() {
+	}
+
+	public static LocalDate today() {
+		return LocalDate.now(ZONE);
+	}
+
+	public static LocalDate toLocalDate(Instant instant) {
+		return instant.atZone(ZONE).toLocalDate();
+	}
+
+	// 그날 0시(한국 시간)
+	public static Date toDate(LocalDate date) {
+		return date == null ? null : Date.from(date.atStartOfDay(ZONE).toInstant());
+	}
+
+	public static Date toDate(Instant instant) {
+		return instant == null ? null : Date.from(instant);
+	}
+}
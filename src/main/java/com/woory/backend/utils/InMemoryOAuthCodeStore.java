@@ -0,0 +1,52 @@
+package com.woory.backend.utils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.woory.backend.dto.CustomOAuth2User;
+
+@Component
+@ConditionalOnProperty(name = "oauth.code-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOAuthCodeStore implements OAuthCodeStore {
+
+	private final Cache<String, CustomOAuth2User> codes;
+
+	public InMemoryOAuthCodeStore(
+		@Value("${oauth.code-store.ttl-seconds:60}") long ttlSeconds,
+		@Value("${oauth.code-store.max-size:10000}") long maxSize
+	) {
+		this(ttlSeconds, maxSize, Ticker.systemTicker(), ForkJoinPool.commonPool());
+	}
+
+	InMemoryOAuthCodeStore(long ttlSeconds, long maxSize, Ticker ticker, Executor executor) {
+		this.codes = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.maximumSize(maxSize)
+			.ticker(ticker)
+			.executor(executor)
+			.build();
+	}
+
+	@Override
+	public void save(String code, CustomOAuth2User user) {
+		codes.put(code, user);
+	}
+
+	@Override
+	public Optional<CustomOAuth2User> consume(String code) {
+		if (code == null) {
+			return Optional.empty();
+		}
+		// 조회와 삭제를 한 번에 처리해서 같은 코드가 두 번 사용되지 않도록 함
+		return Optional.ofNullable(codes.asMap().remove(code));
+	}
+}
@@ -3,6 +3,7 @@ package com.woory.backend.utils;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 import javax.crypto.SecretKey;
 
@@ -14,9 +15,11 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import com.woory.backend.domain.TokenStatus;
+import com.woory.backend.domain.VerifiedToken;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -31,6 +34,8 @@ public class JWTUtil {
 	private static final Logger log = LoggerFactory.getLogger(JWTUtil.class);
 	private final long ACCESS_TOKEN_EXPIRE_TIME;
 	private final SecretKey key;
+	// 파서는 불변이라 요청마다 새로 만들지 않고 재사용
+	private final JwtParser parser;
 
 	public JWTUtil(
 		@Value("${jwt.secret}") String salt,
@@ -38,6 +43,7 @@ public class JWTUtil {
 	) {
 		this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(salt));
 		this.ACCESS_TOKEN_EXPIRE_TIME = accessExp;
+		this.parser = Jwts.parser().verifyWith(key).build();
 	}
 
 	public String generateAccessToken(Long userId, String authorities) {
@@ -55,12 +61,7 @@ public class JWTUtil {
 
 	private Claims parseClaims(String accessToken) {
 		try {
-			return Jwts
-				.parser()
-				.verifyWith(key)
-				.build()
-				.parseSignedClaims(accessToken)
-				.getPayload();
+			return parser.parseSignedClaims(accessToken).getPayload();
 		} catch (ExpiredJwtException e) {
 			return e.getClaims();
 		}
@@ -71,30 +72,52 @@ public class JWTUtil {
 	}
 
 	public List<? extends GrantedAuthority> getAuthorities(String token) {
-		return Arrays.stream(parseClaims(token).get(AUTHORITIES_KEY).toString().split(","))
+		return toAuthorities(parseClaims(token));
+	}
+
+	private List<? extends GrantedAuthority> toAuthorities(Claims claims) {
+		return Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
 			.map(SimpleGrantedAuthority::new)
 			.toList();
 	}
 
+	// 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+	public Optional<VerifiedToken> verifyAccessToken(String token) {
+		Verification verification = verify(token);
+		if (verification.status() != TokenStatus.IS_VALID) {
+			return Optional.empty();
+		}
+		Claims claims = verification.claims();
+		Date expiration = claims.getExpiration();
+		return Optional.of(new VerifiedToken(Long.valueOf(claims.getSubject()), toAuthorities(claims),
+			expiration == null ? null : expiration.toInstant()));
+	}
+
 	public long getAccTokenExpireTime() {
 		return ACCESS_TOKEN_EXPIRE_TIME;
 	}
 
 	public TokenStatus validateAccessToken(String token) {
+		return verify(token).status();
+	}
+
+	private Verification verify(String token) {
 		try {
-			Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-			return TokenStatus.IS_VALID;
+			return new Verification(TokenStatus.IS_VALID, parser.parseSignedClaims(token).getPayload());
 		} catch (SignatureException | MalformedJwtException exception) {
 			log.error("잘못된 JWT 서명입니다.");
 		} catch (ExpiredJwtException e) {
 			log.error("만료된 JWT 서명입니다.");
-			return TokenStatus.IS_EXPIRED;
+			return new Verification(TokenStatus.IS_EXPIRED, null);
 		} catch (UnsupportedJwtException e) {
 			log.error("지원되지 않는 JWT 서명입니다.");
 		} catch (IllegalArgumentException e) {
 			log.error("JWT 토큰이 잘못 되었습니다.");
 		}
-		return TokenStatus.IS_NOT_VALID;
+		return new Verification(TokenStatus.IS_NOT_VALID, null);
+	}
 
+	// 검증 결과, 유효한 경우에만 클레임이 있음
+	private record Verification(TokenStatus status, Claims claims) {
 	}
 }
@@ -0,0 +1,16 @@
+package com.woory.backend.utils;
+
+import java.util.Optional;
+
+import com.woory.backend.dto.CustomOAuth2User;
+
+/**
+ * 소셜 로그인 성공 후 발급하는 일회용 코드 저장소
+ * 코드는 짧은 시간 동안만 유효하고, 한 번 조회하면 바로 사라진다.
+ */
+public interface OAuthCodeStore {
+
+	void save(String code, CustomOAuth2User user);
+
+	Optional<CustomOAuth2User> consume(String code);
+}
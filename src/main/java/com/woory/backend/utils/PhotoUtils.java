@@ -1,24 +1,31 @@
 package com.woory.backend.utils;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 
-import org.apache.http.util.TextUtils;
-import org.apache.logging.log4j.util.Strings;
-import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
 
 import com.woory.backend.error.CustomException;
 import com.woory.backend.error.ErrorCode;
@@ -28,7 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PhotoUtils {
 
-	private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
+	public static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
+	private static final byte[] PNG_SIGNATURE = {(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+	private static final byte[] JPEG_SIGNATURE = {(byte)0xFF, (byte)0xD8, (byte)0xFF};
+	private static final float THUMBNAIL_QUALITY = 0.8f;
 	private static Set<String> allowedImageForm = Set.of("image/png", "image/jpeg", "image/jpg");
 
 	private static String validateFileExtension(String images, Function<String, String> extractFileExtension) {
@@ -52,47 +62,154 @@ public class PhotoUtils {
 		return base64File.substring(colon + 1, semicolon);
 	}
 
-	private static String getFileExtensionFromURL(String imagePath) {
-		String[] split = imagePath.split("\\.");
-		return "image/" + split[split.length - 1];
-	}
-
-	public static MultipartFile base64ToMultipartFile(String base64File) {
-		if (TextUtils.isEmpty(base64File)) {
-			return null;
+	// base64 를 byte[] 로 풀지 않고 디코딩된 크기만 계산, 끝의 '=' 패딩은 생략되어도 됨
+	public static long base64DecodedLength(String base64File) {
+		int start = base64File.indexOf(',') + 1;
+		int length = base64File.length() - start;
+		// 4글자 단위로 나누고 남은 1글자로는 1바이트도 만들 수 없음
+		if (start == 0 || length == 0 || length % 4 == 1) {
+			throw new CustomException(ErrorCode.FILE_IS_NOT_IMAGE);
 		}
-
-		String fileWithoutHeader = base64File.split(",")[1];
-
-		byte[] bytes = Base64.getDecoder().decode(fileWithoutHeader);
-
-		if (bytes.length > MAX_FILE_SIZE) {
+		int padding = 0;
+		if (length % 4 == 0 && base64File.charAt(base64File.length() - 1) == '=') {
+			padding++;
+			if (base64File.charAt(base64File.length() - 2) == '=') {
+				padding++;
+			}
+		}
+		// 패딩이 없으면 남은 2, 3글자가 각각 1, 2바이트가 됨
+		long decodedLength = (long)length / 4 * 3 + Math.max(length % 4 - 1, 0) - padding;
+		if (decodedLength > MAX_FILE_SIZE) {
 			throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
 		}
+		return decodedLength;
+	}
 
-		String extension = validateFileExtension(base64File, PhotoUtils::getFileExtensionFromBase64);
+	// 문자열을 복사하지 않고 읽으면서 디코딩하는 스트림
+	public static InputStream base64ToInputStream(String base64File) {
+		validateFileExtension(base64File, PhotoUtils::getFileExtensionFromBase64);
+		int start = base64File.indexOf(',') + 1;
+		return Base64.getDecoder().wrap(new InputStream() {
+			private int position = start;
+
+			@Override
+			public int read() {
+				return position < base64File.length() ? base64File.charAt(position++) & 0xFF : -1;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				if (len == 0) {
+					return 0;
+				}
+				if (position >= base64File.length()) {
+					return -1;
+				}
+				int count = Math.min(len, base64File.length() - position);
+				for (int i = 0; i < count; i++) {
+					b[off + i] = (byte)base64File.charAt(position++);
+				}
+				return count;
+			}
+		});
+	}
 
-		String name = generateRandomFilename(extension);
+	/**
+	 * 스트림 앞부분의 매직 바이트로 png, jpeg 여부를 확인하고 확장자를 반환
+	 * mark 를 지원하는 스트림이어야 하며, 확인 후 스트림 위치는 처음으로 되돌린다.
+	 */
+	public static String detectImageExtension(InputStream in) throws IOException {
+		in.mark(PNG_SIGNATURE.length);
+		byte[] head = in.readNBytes(PNG_SIGNATURE.length);
+		in.reset();
+
+		if (startsWith(head, PNG_SIGNATURE)) {
+			return "png";
+		}
+		if (startsWith(head, JPEG_SIGNATURE)) {
+			return "jpeg";
+		}
+		throw new CustomException(ErrorCode.FILE_IS_NOT_IMAGE);
+	}
 
-		return new MockMultipartFile(name, name, extension, bytes);
+	private static boolean startsWith(byte[] head, byte[] signature) {
+		if (head.length < signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if (head[i] != signature[i]) {
+				return false;
+			}
+		}
+		return true;
 	}
 
-	private static String generateRandomFilename(String extension) {
-		return UUID.randomUUID() + "." + extension;
+	/**
+	 * 이미지를 한 번만 디코딩해서 주어진 너비들의 jpeg 썸네일을 만든다. 원본보다 크게 늘리지는 않는다.
+	 */
+	public static Map<Integer, byte[]> createJpegThumbnails(InputStream in, int... widths) throws IOException {
+		BufferedImage source = readSubsampled(in, Arrays.stream(widths).max().orElseThrow());
+		Map<Integer, byte[]> thumbnails = new LinkedHashMap<>();
+		for (int width : widths) {
+			thumbnails.put(width, encodeJpeg(scale(source, width)));
+		}
+		return thumbnails;
 	}
 
-	public static MultipartFile urlToFile(String image) {
-		if (TextUtils.isEmpty(image)) {
-			return null;
+	// 원본이 목표 너비보다 충분히 크면 픽셀을 건너뛰며 읽어 디코딩 메모리를 줄임
+	private static BufferedImage readSubsampled(InputStream in, int targetWidth) throws IOException {
+		try (ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> readers = imageIn == null ? Collections.emptyIterator() : ImageIO.getImageReaders(imageIn);
+			if (!readers.hasNext()) {
+				throw new CustomException(ErrorCode.FILE_IS_NOT_IMAGE);
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageIn, true, true);
+				int step = Math.max(1, reader.getWidth(0) / (targetWidth * 2));
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(step, step, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
 		}
+	}
 
-		String ext = validateFileExtension(image, PhotoUtils::getFileExtensionFromURL);
-		String fileName = generateRandomFilename(ext);
-		try (InputStream is = new URL(image).openStream()) {
-			return new MockMultipartFile(fileName, fileName, ext, is);
+	private static BufferedImage scale(BufferedImage source, int width) {
+		int targetWidth = Math.min(width, source.getWidth());
+		int targetHeight = Math.max(1, (int)Math.round((double)source.getHeight() * targetWidth / source.getWidth()));
+		BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = scaled.createGraphics();
+		try {
+			// png 의 투명 영역은 흰색으로 채움
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, targetWidth, targetHeight);
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+		} finally {
+			graphics.dispose();
+		}
+		return scaled;
+	}
 
-		} catch (IOException e) {
-			throw new CustomException(ErrorCode.ERROR_SAVING_FILE);
+	private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(imageOut);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(THUMBNAIL_QUALITY);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
 		}
+		return out.toByteArray();
+	}
+
+	public static String generateRandomFilename(String extension) {
+		return UUID.randomUUID() + "." + extension;
 	}
 }
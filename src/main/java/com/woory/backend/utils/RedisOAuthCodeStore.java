@@ -0,0 +1,68 @@
+package com.woory.backend.utils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.UserDto;
+
+/**
+ * 서버가 여러 대일 때 사용하는 Redis 기반 코드 저장소
+ */
+@Component
+@ConditionalOnProperty(name = "oauth.code-store.type", havingValue = "redis")
+public class RedisOAuthCodeStore implements OAuthCodeStore {
+
+	private static final String KEY_PREFIX = "oauth:code:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+
+	public RedisOAuthCodeStore(
+		StringRedisTemplate redisTemplate,
+		@Value("${oauth.code-store.ttl-seconds:60}") long ttlSeconds
+	) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+	}
+
+	@Override
+	public void save(String code, CustomOAuth2User user) {
+		String role = user.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.findFirst()
+			.orElse(null);
+		Map<String, Object> value = new HashMap<>();
+		value.put("userId", Long.valueOf(user.getName()));
+		value.put("username", user.getUsername());
+		value.put("role", role);
+		redisTemplate.opsForValue().set(KEY_PREFIX + code, JsonUtil.toJson(value), ttl);
+	}
+
+	@Override
+	public Optional<CustomOAuth2User> consume(String code) {
+		if (code == null) {
+			return Optional.empty();
+		}
+		// GETDEL로 조회와 삭제를 원자적으로 처리
+		String json = redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + code);
+		if (json == null) {
+			return Optional.empty();
+		}
+		Map<?, ?> value = JsonUtil.fromJson(json, Map.class);
+		UserDto user = UserDto.builder()
+			.userId(((Number)value.get("userId")).longValue())
+			.username((String)value.get("username"))
+			.role((String)value.get("role"))
+			.build();
+		return Optional.of(new CustomOAuth2User(user));
+	}
+}
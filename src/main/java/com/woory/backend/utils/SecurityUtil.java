@@ -1,8 +1,5 @@
 package com.woory.backend.utils;
 
-import java.util.HashMap;
-import java.util.UUID;
-
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -14,8 +11,6 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Component
 public class SecurityUtil {
-	private static HashMap<String, CustomOAuth2User> uuidToUser = new HashMap<>();
-
 	public static Long getCurrentUserId() {
 		final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -25,12 +20,4 @@ public class SecurityUtil {
 		}
 		return Long.valueOf(oAuth2User.getName());
 	}
-
-	public static void saveUserWithUUID(UUID uuid, CustomOAuth2User user) {
-		uuidToUser.put(uuid.toString(), user);
-	}
-
-	public static CustomOAuth2User getUserByCode(String code) {
-		return uuidToUser.get(code);
-	}
 }
@@ -0,0 +1,81 @@
+package com.woory.backend.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.woory.backend.entity.TopicSet;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.TopicSetRepository;
+
+/**
+ * 토픽 세트는 거의 바뀌지 않으므로 서버 시작 시 한 번 읽어 메모리에 보관한다.
+ * 조회 요청에서 topic_set 테이블을 읽지 않도록 랜덤 선택과 id 조회를 모두 여기서 처리한다.
+ */
+@Component
+public class TopicSetCatalog {
+
+	private static final Logger log = LoggerFactory.getLogger(TopicSetCatalog.class);
+
+	private final TopicSetRepository topicSetRepository;
+	private final ReentrantLock reloadLock = new ReentrantLock();
+	private volatile Snapshot snapshot;
+
+	public TopicSetCatalog(TopicSetRepository topicSetRepository) {
+		this.topicSetRepository = topicSetRepository;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		reload();
+	}
+
+	// DB 조회 중에 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 사용
+	public void reload() {
+		reloadLock.lock();
+		try {
+			List<TopicSet> topicSets = List.copyOf(topicSetRepository.findAll());
+			Map<Long, TopicSet> byId = topicSets.stream()
+				.collect(Collectors.toUnmodifiableMap(TopicSet::getId, Function.identity()));
+			snapshot = new Snapshot(topicSets, byId);
+			log.info("토픽 세트 {}개 로드", topicSets.size());
+		} finally {
+			reloadLock.unlock();
+		}
+	}
+
+	public TopicSet random() {
+		List<TopicSet> topicSets = snapshot().topicSets();
+		if (topicSets.isEmpty()) {
+			throw new CustomException(ErrorCode.TOPIC_NOT_FOUND);
+		}
+		return topicSets.get(ThreadLocalRandom.current().nextInt(topicSets.size()));
+	}
+
+	public Optional<TopicSet> findById(long id) {
+		return Optional.ofNullable(snapshot().byId().get(id));
+	}
+
+	private Snapshot snapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			reload();
+			current = snapshot;
+		}
+		return current;
+	}
+
+	private record Snapshot(List<TopicSet> topicSets, Map<Long, TopicSet> byId) {
+	}
+}
@@ -0,0 +1,69 @@
+package com.woory.backend.utils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.woory.backend.domain.VerifiedToken;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증이 끝난 액세스 토큰을 토큰 만료 시각까지만 보관하는 캐시
+ * 검증에 실패한 토큰은 저장하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final JWTUtil jwtUtil;
+	private final Cache<String, VerifiedToken> cache;
+
+	public VerifiedTokenCache(
+		JWTUtil jwtUtil,
+		MeterRegistry meterRegistry,
+		@Value("${jwt.cache.max-size:10000}") long maxSize,
+		@Value("${jwt.cache.max-ttl-seconds:600}") long maxTtlSeconds
+	) {
+		this.jwtUtil = jwtUtil;
+		long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new Expiry<String, VerifiedToken>() {
+				@Override
+				public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+					return value.nanosUntilExpiry(maxTtlNanos);
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+					long currentDuration) {
+					return value.nanosUntilExpiry(maxTtlNanos);
+				}
+
+				@Override
+				public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+					long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+	}
+
+	public Optional<VerifiedToken> get(String token) {
+		VerifiedToken cached = cache.getIfPresent(token);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<VerifiedToken> verified = jwtUtil.verifyAccessToken(token);
+		verified.ifPresent(value -> cache.put(token, value));
+		return verified;
+	}
+}
@@ -0,0 +1,9 @@
+-- /v1/images 로 미리 올린 이미지와 올린 사용자, 한 번만 붙일 수 있음
+create table image_upload (
+	upload_id varchar(36) not null,
+	image_path varchar(1024) not null,
+	user_id bigint not null,
+	attached boolean not null,
+	created_at datetime(6),
+	primary key (upload_id)
+);
@@ -0,0 +1,114 @@
+-- 기준 스키마: Flyway 도입 전 엔티티(ddl-auto)로 만들어지던 스키마와 같음
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 이 버전을 건너뛰므로, 이후 추가한 테이블/컬럼/인덱스는
+-- 기존 DB 에 있든 없든 적용되도록 V2 이후에서 있는지 확인하고 만든다.
+
+create table user (
+	user_id bigint not null auto_increment,
+	nickname varchar(255),
+	username varchar(255),
+	profile_image varchar(255),
+	role varchar(255),
+	primary key (user_id)
+);
+
+create table group_table (
+	group_id bigint not null auto_increment,
+	group_name varchar(255),
+	photo_path varchar(255),
+	group_reg_date date,
+	primary key (group_id)
+);
+
+create table group_user (
+	id bigint not null auto_increment,
+	user_id bigint,
+	group_id bigint,
+	status varchar(255),
+	reg_date datetime(6),
+	last_updated_date datetime(6),
+	primary key (id),
+	constraint fk_group_user_user foreign key (user_id) references user (user_id),
+	constraint fk_group_user_group foreign key (group_id) references group_table (group_id)
+);
+
+create table topic_set (
+	topic_id bigint not null,
+	topic_value varchar(255),
+	topic_byte integer,
+	primary key (topic_id)
+);
+
+create table topic (
+	topic_id bigint not null auto_increment,
+	topic_content varchar(255),
+	issue_date date,
+	topic_byte integer not null,
+	group_id bigint,
+	primary key (topic_id),
+	constraint fk_topic_group foreign key (group_id) references group_table (group_id)
+);
+
+create table content (
+	content_id bigint not null auto_increment,
+	content_text varchar(255),
+	content_img_path varchar(255),
+	content_reg_date datetime(6),
+	topic_id bigint,
+	userid bigint,
+	primary key (content_id),
+	constraint fk_content_topic foreign key (topic_id) references topic (topic_id),
+	constraint fk_content_user foreign key (userid) references user (user_id)
+);
+
+create table comment (
+	comment_id bigint not null auto_increment,
+	parent_comment_id bigint,
+	content_id bigint,
+	user_id bigint,
+	comment_text varchar(255) not null,
+	comment_date datetime(6) not null,
+	primary key (comment_id),
+	constraint fk_comment_parent foreign key (parent_comment_id) references comment (comment_id),
+	constraint fk_comment_content foreign key (content_id) references content (content_id),
+	constraint fk_comment_user foreign key (user_id) references user (user_id)
+);
+
+create table content_reactions (
+	id bigint not null auto_increment,
+	content_id bigint,
+	user_id bigint,
+	reaction varchar(255) not null,
+	primary key (id),
+	constraint fk_content_reactions_content foreign key (content_id) references content (content_id),
+	constraint fk_content_reactions_user foreign key (user_id) references user (user_id)
+);
+
+create table favorite (
+	favorite_id bigint not null auto_increment,
+	group_user_id bigint,
+	topic_id bigint,
+	group_id bigint,
+	primary key (favorite_id),
+	constraint fk_favorite_group_user foreign key (group_user_id) references group_user (id),
+	constraint fk_favorite_topic foreign key (topic_id) references topic (topic_id)
+);
+
+create table notification (
+	notification_id bigint not null auto_increment,
+	group_id bigint,
+	topic_date date,
+	topic_id bigint,
+	topic_title varchar(255),
+	content_user_id bigint,
+	content_id bigint,
+	comment_user_id bigint,
+	comment_id bigint,
+	reply_user_id bigint,
+	reply_id bigint,
+	reaction_user_id bigint,
+	reaction_id bigint,
+	user_id bigint,
+	notification_type varchar(255),
+	issue_date datetime(6),
+	primary key (notification_id)
+);
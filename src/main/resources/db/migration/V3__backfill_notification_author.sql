@@ -0,0 +1,7 @@
+-- author 컬럼이 생기기 전에 저장된 알림의 작성자 닉네임을 채움
+-- 이후 알림 조회는 행마다 user 테이블을 읽는 상관 서브쿼리 없이 author 만 읽는다.
+update notification n
+set author = (select u.nickname from user u
+	where u.user_id = coalesce(n.content_user_id, n.comment_user_id, n.reply_user_id, n.reaction_user_id))
+where n.author is null
+	and coalesce(n.content_user_id, n.comment_user_id, n.reply_user_id, n.reaction_user_id) is not null;
@@ -0,0 +1,2 @@
+-- 여러 서버가 같은 삭제 항목을 동시에 처리하지 않도록 처리 전에 선점한 작업을 기록
+alter table image_deletion add column claimed_by varchar(36);
@@ -0,0 +1,9 @@
+-- 집계 테이블 도입 전의 리액션으로 게시물별 리액션 수를 채움
+-- 이미 집계가 있는 (게시물, 리액션)은 그대로 둔다.
+insert into content_reaction_count (content_id, reaction, reaction_count)
+select cr.content_id, cr.reaction, count(*)
+from content_reactions cr
+where cr.content_id is not null
+	and not exists (select 1 from content_reaction_count rc
+		where rc.content_id = cr.content_id and rc.reaction = cr.reaction)
+group by cr.content_id, cr.reaction;
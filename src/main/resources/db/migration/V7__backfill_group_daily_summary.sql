@@ -0,0 +1,18 @@
+-- 요약 테이블 도입 전에 글이 있던 토픽마다 하루 요약을 채움 (GroupDailySummaryService.refresh 와 같은 규칙)
+-- 대표 글은 작성 순으로 처음 이미지를 올린 글, 이미지가 없으면 첫 글
+-- 이미 요약이 있는 날은 그대로 둔다.
+insert into group_daily_summary (group_id, summary_day, topic_id, cover_content_id, post_count)
+select t.group_id, t.issue_date, t.topic_id,
+	coalesce(
+		(select c.content_id from content c
+			where c.topic_id = t.topic_id and c.content_img_path is not null and c.content_img_path <> ''
+			order by c.content_reg_date, c.content_id limit 1),
+		(select c.content_id from content c
+			where c.topic_id = t.topic_id
+			order by c.content_reg_date, c.content_id limit 1)),
+	(select count(*) from content c where c.topic_id = t.topic_id)
+from topic t
+where t.group_id is not null
+	and exists (select 1 from content c where c.topic_id = t.topic_id)
+	and not exists (select 1 from group_daily_summary s
+		where s.group_id = t.group_id and s.summary_day = t.issue_date);
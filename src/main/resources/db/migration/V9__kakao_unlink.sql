@@ -0,0 +1,13 @@
+-- 실패한 카카오 연결 끊기를 다시 보내기 위한 대기열
+create table kakao_unlink (
+	kakao_unlink_id bigint not null auto_increment,
+	kakao_id varchar(255) not null,
+	status varchar(255) not null,
+	attempts integer not null,
+	next_attempt_at datetime(6),
+	last_error varchar(1024),
+	created_at datetime(6),
+	claimed_by varchar(36),
+	primary key (kakao_unlink_id)
+);
+create index idx_kakao_unlink_status_next on kakao_unlink (status, next_attempt_at, kakao_unlink_id);
@@ -0,0 +1,96 @@
+package com.woory.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * H2 메모리 DB 두 개를 기본/복제 DB 로 두고, 어느 쪽에서 읽었는지는 각 DB 의 marker 값으로 확인
+ */
+public class ReplicationRoutingDataSourceTest {
+
+	private static final String LAG_QUERY = "select delay_seconds as seconds_behind_source from replica_lag";
+
+	private JdbcTemplate replicaJdbc;
+	private ReplicaLagMonitor lagMonitor;
+	private JdbcTemplate routingJdbc;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = h2("routing-primary");
+		DataSource replica = h2("routing-replica");
+		new JdbcTemplate(primary).execute("insert into marker values ('primary')");
+		replicaJdbc = new JdbcTemplate(replica);
+		replicaJdbc.execute("insert into marker values ('replica')");
+		replicaJdbc.execute("create table replica_lag (delay_seconds bigint)");
+		replicaJdbc.execute("insert into replica_lag values (0)");
+
+		lagMonitor = new ReplicaLagMonitor(replica, LAG_QUERY, "seconds_behind_source", 5);
+		DataSource routing = new LazyConnectionDataSourceProxy(
+			new ReplicationRoutingDataSource(primary, replica, lagMonitor));
+		routingJdbc = new JdbcTemplate(routing);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@Test
+	void 읽기_전용_트랜잭션은_복제_DB에서_읽음() {
+		lagMonitor.check();
+
+		assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+		assertThat(readWrite.execute(status -> marker())).isEqualTo("primary");
+		assertThat(marker()).isEqualTo("primary");
+	}
+
+	@Test
+	void 복제_지연이_기준을_넘으면_기본_DB에서_읽음() {
+		replicaJdbc.update("update replica_lag set delay_seconds = 30");
+		lagMonitor.check();
+
+		assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+
+		replicaJdbc.update("update replica_lag set delay_seconds = 1");
+		lagMonitor.check();
+
+		assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+	}
+
+	@Test
+	void 복제_상태를_알_수_없으면_기본_DB에서_읽음() {
+		lagMonitor.check();
+		replicaJdbc.execute("drop table replica_lag");
+		lagMonitor.check();
+
+		assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+	}
+
+	@Test
+	void 첫_확인_전에는_기본_DB에서_읽음() {
+		assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+	}
+
+	private String marker() {
+		return routingJdbc.queryForObject("select name from marker", String.class);
+	}
+
+	private DataSource h2(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("drop all objects");
+		jdbc.execute("create table marker (name varchar(20))");
+		return dataSource;
+	}
+}
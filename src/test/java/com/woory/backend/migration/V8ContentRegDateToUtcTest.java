@@ -0,0 +1,30 @@
+package com.woory.backend.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZoneId;
+
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+
+public class V8ContentRegDateToUtcTest {
+
+	@Test
+	void 예전_저장_시간대를_지정하지_않으면_실패() {
+		assertThatThrownBy(() -> V8__Content_reg_date_to_utc.legacyZone(null)).isInstanceOf(FlywayException.class);
+		assertThatThrownBy(() -> V8__Content_reg_date_to_utc.legacyZone(" ")).isInstanceOf(FlywayException.class);
+	}
+
+	@Test
+	void 일광_절약_시간이_있거나_모르는_시간대는_실패() {
+		assertThatThrownBy(() -> V8__Content_reg_date_to_utc.legacyZone("America/New_York"))
+			.isInstanceOf(FlywayException.class);
+		assertThatThrownBy(() -> V8__Content_reg_date_to_utc.legacyZone("Mars/Base"))
+			.isInstanceOf(FlywayException.class);
+	}
+
+	@Test
+	void 지정한_시간대를_사용() {
+		assertThat(V8__Content_reg_date_to_utc.legacyZone("Asia/Seoul")).isEqualTo(ZoneId.of("Asia/Seoul"));
+	}
+}
@@ -0,0 +1,99 @@
+package com.woory.backend.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.Notification;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.TopicSet;
+import com.woory.backend.utils.DateUtil;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class BatchNotificationRepositoryTest {
+
+	private static final int GROUP_COUNT = 10_000;
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Autowired
+	private TopicRepository topicRepository;
+
+	@Autowired
+	private GroupRepository groupRepository;
+
+	private List<Topic> topics;
+	private LocalDate today;
+
+	@BeforeEach
+	public void setUp() {
+		cleanUp();
+
+		List<Group> groups = new ArrayList<>();
+		for (int i = 0; i < GROUP_COUNT; i++) {
+			groups.add(new Group());
+		}
+		List<Group> savedGroups = groupRepository.saveAll(groups);
+
+		today = DateUtil.today();
+		TopicSet topicSet = new TopicSet(1L, "가장 최근에 본 영화", 19);
+		topicRepository.insertMissingTopics(topicSet, today, 0L, Long.MAX_VALUE);
+		topics = topicRepository.findAll(Sort.by("topicId"));
+
+		Assertions.assertEquals(savedGroups.size(), topics.size());
+	}
+
+	@AfterEach
+	public void cleanUp() {
+		notificationRepository.deleteAllInBatch();
+		topicRepository.deleteAllInBatch();
+		groupRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("토픽 알림 저장 방식 비교 - saveAll / INSERT SELECT")
+	void compareTopicNotificationInserts() {
+		Date now = new Date();
+		List<Notification> notifications = topics.stream()
+			.map(t -> Notification.fromCreatingTopic(t.getGroup().getGroupId(), t.getTopicId(), DateUtil.toDate(t.getIssueDate()),
+				t.getTopicContent(), now))
+			.toList();
+
+		// when
+		long start = System.currentTimeMillis();
+		notificationRepository.saveAll(notifications);
+		long saveAll = System.currentTimeMillis() - start;
+		notificationRepository.deleteAllInBatch();
+
+		start = System.currentTimeMillis();
+		int inserted = 0;
+		long afterTopicId = 0L;
+		for (int from = 0; from < topics.size(); from += 1000) {
+			long lastTopicId = topics.get(Math.min(from + 1000, topics.size()) - 1).getTopicId();
+			inserted += notificationRepository.insertTopicNotifications(today, now, afterTopicId, lastTopicId);
+			afterTopicId = lastTopicId;
+		}
+		long insertSelect = System.currentTimeMillis() - start;
+
+		System.out.println("1만건 saveAll(알림) = " + saveAll);
+		System.out.println("1만건 INSERT SELECT(알림) = " + insertSelect);
+
+		// then
+		Assertions.assertEquals(topics.size(), inserted);
+		Assertions.assertEquals(topics.size(), notificationRepository.count());
+	}
+}
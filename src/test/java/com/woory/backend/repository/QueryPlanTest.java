@@ -0,0 +1,163 @@
+package com.woory.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woory.backend.entity.ImageDeletionStatus;
+import com.woory.backend.entity.KakaoUnlinkStatus;
+
+/**
+ * 마이그레이션으로 만든 스키마(H2 MySQL 모드)에서 주요 조회의 실행 계획을 확인한다.
+ * 리포지토리 메서드를 실제로 호출해 Hibernate 가 보낸 SQL 을 모은 뒤 그대로 EXPLAIN 하며,
+ * 어느 테이블이든 전체 스캔이 나오면 실패한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QueryPlanTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 7, 20);
+	private static final Date NOW = new Date();
+
+	@Autowired
+	private StatementCapture statementCapture;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private GroupUserRepository groupUserRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private ContentRepository contentRepository;
+	@Autowired
+	private ContentReactionRepository contentReactionRepository;
+	@Autowired
+	private ContentReactionCountRepository contentReactionCountRepository;
+	@Autowired
+	private FavoriteRepository favoriteRepository;
+	@Autowired
+	private NotificationRepository notificationRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private GroupDailySummaryRepository groupDailySummaryRepository;
+	@Autowired
+	private ImageDeletionRepository imageDeletionRepository;
+	@Autowired
+	private KakaoUnlinkRepository kakaoUnlinkRepository;
+
+	@TestFactory
+	@DisplayName("주요 조회는 인덱스를 사용")
+	Stream<DynamicTest> usesIndex() {
+		return Stream.of(
+			// GroupUserRepository
+			query("멤버십 확인", () -> groupUserRepository.findStatusByUserIdAndGroupId(1L, 1L)),
+			query("내 그룹 목록", () -> groupUserRepository.findMyGroupInfoDto(1L)),
+			query("그룹 멤버 목록", () -> groupUserRepository.findGroupUsersByGroupIdOrderByRegDate(1L)),
+			// TopicRepository
+			query("그룹의 하루 토픽", () -> topicRepository.findTopicByGroupIdAndIssueDate(1L, DAY)),
+			query("날짜별 토픽 keyset", () -> topicRepository.findTopicIdsByIssueDateAfter(DAY, 0L, PageRequest.of(0, 500))),
+			// ContentRepository
+			query("하루 피드 글 목록", () -> contentRepository.findContentsWithUserByTopicId(1L, 1L)),
+			query("토픽에 쓴 글 확인", () -> contentRepository.existsByTopic_TopicIdAndUsers_UserId(1L, 1L)),
+			query("사용자가 쓴 글의 토픽", () -> contentRepository.findTopicIdsByUserId(1L)),
+			// ContentReactionRepository, ContentReactionCountRepository
+			query("내 리액션", () -> contentReactionRepository.findReactionByContentIdAndUserId(1L, 1L)),
+			query("그룹에서 사용자의 리액션 삭제", () -> contentReactionRepository.deleteByGroupIdAndUserId(1L, 1L)),
+			query("리액션 수", () -> contentReactionCountRepository.findPositiveByContentId(1L)),
+			// FavoriteRepository
+			query("즐겨찾기 여부", () -> favoriteRepository.existsByTopicAndGroupUser(
+				topicRepository.getReferenceById(1L), groupUserRepository.getReferenceById(1L))),
+			query("달력의 즐겨찾기 토픽", () -> favoriteRepository.findFavoriteTopicIds(1L, List.of(1L, 2L, 3L))),
+			// NotificationRepository
+			query("그룹 알림과 내 알림", () -> notificationRepository.findAllByUserIdBefore(1L, 1L, NOW, Long.MAX_VALUE, 20)),
+			query("토픽 알림", () -> notificationRepository.findTopicNotificationsByGroupIds(List.of(1L, 2L), NOW)),
+			// CommentRepository
+			query("댓글 페이지", () -> commentRepository.findCommentPage(1L, NOW, 0L, PageRequest.of(0, 20))),
+			query("답글 미리보기", () -> commentRepository.findReplyPreviews(List.of(1L, 2L), 3)),
+			query("그룹에서 쓴 댓글", () -> commentRepository.findCommentIdsByGroupIdAndUserId(1L, 1L)),
+			// GroupDailySummaryRepository
+			query("달력", () -> groupDailySummaryRepository.findCalendar(1L, DAY.withDayOfMonth(1),
+				DAY.withDayOfMonth(1).plusMonths(1))),
+			// ImageDeletionRepository
+			query("삭제할 이미지", () -> imageDeletionRepository.findDue(ImageDeletionStatus.PENDING, NOW,
+				PageRequest.of(0, 100))),
+			// KakaoUnlinkRepository
+			query("다시 보낼 카카오 연결 끊기", () -> kakaoUnlinkRepository.findDue(KakaoUnlinkStatus.PENDING, NOW,
+				PageRequest.of(0, 100)))
+		);
+	}
+
+	private DynamicTest query(String name, Runnable call) {
+		return DynamicTest.dynamicTest(name, () -> {
+			List<String> statements = capture(call);
+
+			assertThat(statements).as(name).isNotEmpty();
+			for (String sql : statements) {
+				// 바인딩 값은 실행 계획에 영향이 없으므로 모두 null 로 채움
+				Object[] parameters = new Object[(int)sql.chars().filter(c -> c == '?').count()];
+				String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, parameters);
+
+				assertThat(plan).as(name + "\n" + sql).doesNotContain("tableScan");
+			}
+		});
+	}
+
+	// 삭제 쿼리도 있으므로 트랜잭션 안에서 호출하고 되돌림
+	private List<String> capture(Runnable call) {
+		return transactionTemplate.execute(status -> {
+			statementCapture.clear();
+			call.run();
+			status.setRollbackOnly();
+			return List.copyOf(statementCapture.statements);
+		});
+	}
+
+	static class StatementCapture implements StatementInspector {
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+		void clear() {
+			statements.clear();
+		}
+	}
+
+	@TestConfiguration
+	static class StatementCaptureConfig {
+		@Bean
+		StatementCapture statementCapture() {
+			return new StatementCapture();
+		}
+
+		@Bean
+		HibernatePropertiesCustomizer statementCaptureCustomizer(StatementCapture statementCapture) {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCapture);
+		}
+	}
+}
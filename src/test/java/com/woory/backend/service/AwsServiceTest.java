@@ -3,23 +3,43 @@ package com.woory.backend.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.ImageUpload;
 import com.woory.backend.error.CustomException;
 import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.ImageUploadRepository;
+import com.woory.backend.utils.PhotoUtils;
 
 import io.findify.s3mock.S3Mock;
 
 @Import(S3MockConfig.class)
 @ActiveProfiles("test")
-@SpringBootTest
+@SpringBootTest(properties = "image.import.read-timeout-ms=500")
 public class AwsServiceTest {
 	@Autowired
 	private AmazonS3 amazonS3;
@@ -28,9 +48,14 @@ public class AwsServiceTest {
 	private S3Mock s3Mock;
 
 	@Autowired
-	private AwsService awsService = new AwsService(amazonS3);
+	private AwsService awsService;
+
+	@Autowired
+	private ImageUploadRepository imageUploadRepository;
 
 	private static final String BUCKET_NAME = "test-bucket";
+	private static final byte[] PNG = Base64.getDecoder().decode(
+		"iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
 
 	@BeforeAll
 	static void setUp(@Autowired S3Mock s3Mock, @Autowired AmazonS3 amazonS3) {
@@ -44,6 +69,12 @@ public class AwsServiceTest {
 		s3Mock.stop();
 	}
 
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		imageUploadRepository.deleteAll();
+	}
+
 	@Test
 	void 이미지_저장_base64_테스트() {
 		String image =
@@ -70,18 +101,128 @@ public class AwsServiceTest {
 	}
 
 	@Test
-	void 이미지_없을_때_삭제_테스트() {
-		String url = "http://127.0.0.1:8081/test/220px-Font_Awesome_5_brands_github.svg.png";
-		assertThatThrownBy(() -> awsService.deleteImage(url))
+	void 이미지_스트림_저장_테스트() {
+		String filePath = awsService.saveStream(new ByteArrayInputStream(PNG), PNG.length);
+
+		assertThat(filePath).contains("http://127.0.0.1:8081/" + BUCKET_NAME).endsWith(".png");
+	}
+
+	@Test
+	void 미리_올린_이미지는_올린_사용자가_한_번만_붙일_수_있음() {
+		loginAs(1L);
+		ImageUpload upload = awsService.upload(new ByteArrayInputStream(PNG), PNG.length);
+
+		assertThat(awsService.saveFile(upload.getUploadId())).isEqualTo(upload.getImagePath());
+		// 이미 붙인 이미지를 다른 게시물에 다시 붙일 수 없음
+		assertThatThrownBy(() -> awsService.saveFile(upload.getUploadId()))
 			.isInstanceOf(CustomException.class)
-			.hasMessageContaining(ErrorCode.FILE_DOES_NOT_EXIST.getMessage());
+			.hasMessageContaining(ErrorCode.INVALID_IMAGE_UPLOAD.getMessage());
 	}
 
 	@Test
-	void 이미지_업로드_후_삭제_테스트() {
-		String url = "https://upload.wikimedia.org/wikipedia/commons/thumb/9/95/Font_Awesome_5_brands_github.svg/220px-Font_Awesome_5_brands_github.svg.png";
+	void 다른_사용자가_올린_이미지는_붙일_수_없음() {
+		loginAs(1L);
+		ImageUpload upload = awsService.upload(new ByteArrayInputStream(PNG), PNG.length);
+
+		loginAs(2L);
+		assertThatThrownBy(() -> awsService.saveFile(upload.getUploadId()))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.INVALID_IMAGE_UPLOAD.getMessage());
+		// 피드에서 복사한 이미지 주소도 받지 않음
+		assertThatThrownBy(() -> awsService.saveFile(upload.getImagePath()))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.INVALID_IMAGE_UPLOAD.getMessage());
+
+		// 원래 올린 사용자는 그대로 붙일 수 있음
+		loginAs(1L);
+		assertThat(awsService.saveFile(upload.getUploadId())).isEqualTo(upload.getImagePath());
+	}
+
+	@Test
+	void 이미지가_아닌_스트림_저장시_예외() {
+		byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> awsService.saveStream(new ByteArrayInputStream(text), text.length))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.FILE_IS_NOT_IMAGE.getMessage());
+	}
+
+	@Test
+	void 최대_크기를_넘는_스트림_저장시_예외() {
+		assertThatThrownBy(() -> awsService.saveStream(InputStream.nullInputStream(), PhotoUtils.MAX_FILE_SIZE + 1))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.FILE_SIZE_EXCEED.getMessage());
+	}
+
+	@Test
+	void 외부_이미지를_받으면서_저장() throws IOException {
+		byte[] png = Base64.getDecoder().decode(
+			"iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+		HttpServer server = imageServer(exchange -> {
+			exchange.sendResponseHeaders(200, png.length);
+			exchange.getResponseBody().write(png);
+		});
+		try {
+			assertThat(awsService.saveFileFromUrl(url(server))).contains("http://127.0.0.1:8081/" + BUCKET_NAME)
+				.endsWith(".png");
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void 최대_크기를_넘는_외부_이미지는_받지_않음() throws IOException {
+		HttpServer server = imageServer(exchange -> exchange.sendResponseHeaders(200, PhotoUtils.MAX_FILE_SIZE + 1));
+		try {
+			assertThatThrownBy(() -> awsService.saveFileFromUrl(url(server)))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.FILE_SIZE_EXCEED.getMessage());
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void 응답이_없는_외부_이미지는_제한_시간_후_실패() throws IOException {
+		HttpServer server = imageServer(exchange -> {
+			exchange.sendResponseHeaders(200, 0);
+			try {
+				Thread.sleep(3000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		try {
+			long start = System.nanoTime();
+			assertThatThrownBy(() -> awsService.saveFileFromUrl(url(server)))
+				.isInstanceOf(CustomException.class)
+				.hasMessageContaining(ErrorCode.ERROR_SAVING_FILE.getMessage());
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	private void loginAs(Long userId) {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new CustomOAuth2User(UserDto.builder().userId(userId).role("ROLE_USER").build()), null, List.of()));
+	}
+
+	private HttpServer imageServer(HttpHandler handler) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/profile.png", exchange -> {
+			try {
+				handler.handle(exchange);
+			} finally {
+				exchange.close();
+			}
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		return server;
+	}
 
-		String filePath = awsService.saveFileFromUrl(url);
-		assertDoesNotThrow(() -> awsService.deleteImage(filePath));
+	private String url(HttpServer server) {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/profile.png";
 	}
 }
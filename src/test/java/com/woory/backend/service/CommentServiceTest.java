@@ -0,0 +1,177 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.woory.backend.dto.CommentReplyDto;
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.ReplyDto;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.Comment;
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.User;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.CommentRepository;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.repository.UserRepository;
+import com.woory.backend.utils.DateUtil;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class CommentServiceTest {
+
+	private static final int COMMENT_COUNT = 30;
+	private static final int REPLY_COUNT = 5;
+
+	@Autowired
+	private CommentService commentService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private ContentRepository contentRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private User me;
+	private Content content;
+
+	@BeforeEach
+	void setUp() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			users.add(userRepository.save(User.builder().nickname("사용자" + i).role("ROLE_USER").build()));
+		}
+		me = users.get(0);
+
+		Group group = new Group();
+		group.setGroupName("우리");
+		for (User user : users) {
+			GroupUser groupUser = new GroupUser();
+			groupUser.setGroup(group);
+			groupUser.setUser(user);
+			groupUser.setStatus(GroupStatus.MEMBER);
+			groupUser.setRegDate(new Date());
+			group.getGroupUsers().add(groupUser);
+		}
+		groupRepository.save(group);
+
+		Topic topic = topicRepository.save(Topic.builder().group(group).topicContent("토픽").issueDate(DateUtil.today()).build());
+		content = contentRepository.save(Content.builder().topic(topic).users(me).contentText("글")
+			.contentRegDate(Instant.now()).build());
+
+		for (int i = 0; i < COMMENT_COUNT; i++) {
+			Comment comment = commentRepository.save(Comment.builder().content(content)
+				.users(users.get(i % users.size())).commentText("댓글" + i).commentDate(new Date()).build());
+			for (int j = 0; j < REPLY_COUNT; j++) {
+				commentRepository.save(Comment.builder().content(content).parentComment(comment)
+					.users(users.get((i + j + 1) % users.size())).commentText("답글" + j).commentDate(new Date()).build());
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new CustomOAuth2User(UserDto.builder().userId(me.getUserId()).role("ROLE_USER").build()), null, List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void 댓글_페이지는_댓글_수와_무관하게_세_번의_쿼리() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Map<String, Object> response = commentService.getCommentsByContentId(content.getContentId(), null, 20);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+		List<CommentReplyDto> comments = (List<CommentReplyDto>)response.get("data");
+		assertThat(response.get("name")).isEqualTo(me.getNickname());
+		assertThat(comments).hasSize(20);
+		assertThat(comments).allSatisfy(comment -> {
+			assertThat(comment.getReplyCount()).isEqualTo(REPLY_COUNT);
+			assertThat(comment.getReplies()).hasSize(3);
+		});
+		assertThat(comments.get(0).isEdit()).isTrue();
+		assertThat(comments.get(0).getReplies().get(0).getName()).isEqualTo("사용자1");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void 커서로_다음_페이지_조회() {
+		Map<String, Object> first = commentService.getCommentsByContentId(content.getContentId(), null, 20);
+		String cursor = (String)first.get("nextCursor");
+
+		Map<String, Object> second = commentService.getCommentsByContentId(content.getContentId(), cursor, 20);
+
+		List<CommentReplyDto> firstPage = (List<CommentReplyDto>)first.get("data");
+		List<CommentReplyDto> secondPage = (List<CommentReplyDto>)second.get("data");
+		assertThat(cursor).isNotNull();
+		assertThat(secondPage).hasSize(COMMENT_COUNT - 20);
+		assertThat(secondPage.get(0).getCommentId()).isGreaterThan(firstPage.get(firstPage.size() - 1).getCommentId());
+		assertThat(second.get("nextCursor")).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void 남은_답글은_답글_목록에서_이어서_조회() {
+		Map<String, Object> page = commentService.getCommentsByContentId(content.getContentId(), null, 1);
+		CommentReplyDto comment = ((List<CommentReplyDto>)page.get("data")).get(0);
+		assertThat(comment.getRepliesCursor()).isNotNull();
+
+		// 미리보기 다음 답글부터 받으므로 미리보기를 다시 받지 않음
+		Map<String, Object> rest = commentService.getReplies(comment.getCommentId(), comment.getRepliesCursor(), 50);
+
+		List<ReplyDto> restReplies = (List<ReplyDto>)rest.get("data");
+		assertThat(restReplies).hasSize(REPLY_COUNT - comment.getReplies().size());
+		assertThat(restReplies).extracting(ReplyDto::getCommentId)
+			.doesNotContainAnyElementsOf(comment.getReplies().stream().map(ReplyDto::getCommentId).toList());
+		assertThat(rest.get("nextCursor")).isNull();
+	}
+
+	@Test
+	void 잘못된_커서는_예외() {
+		assertThatThrownBy(() -> commentService.getCommentsByContentId(content.getContentId(), "abc", 20))
+			.isInstanceOf(CustomException.class)
+			.hasMessageContaining(ErrorCode.INVALID_CURSOR.getMessage());
+	}
+}
@@ -0,0 +1,126 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.ContentReactionCount;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.ReactionType;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.User;
+import com.woory.backend.repository.ContentReactionCountRepository;
+import com.woory.backend.repository.ContentReactionRepository;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.repository.UserRepository;
+import com.woory.backend.utils.DateUtil;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+public class ContentReactionConcurrencyTest {
+
+	private static final int USER_COUNT = 5;
+	private static final int TAPS_PER_USER = 3;
+
+	@Autowired
+	private ContentService contentService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private ContentRepository contentRepository;
+	@Autowired
+	private ContentReactionRepository contentReactionRepository;
+	@Autowired
+	private ContentReactionCountRepository contentReactionCountRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private List<User> users;
+	private Group group;
+	private Content content;
+
+	@BeforeEach
+	void setUp() {
+		users = new ArrayList<>();
+		for (int i = 0; i < USER_COUNT; i++) {
+			users.add(userRepository.save(User.builder().nickname("사용자" + i).role("ROLE_USER").build()));
+		}
+		group = new Group();
+		group.setGroupName("우리");
+		for (User user : users) {
+			GroupUser groupUser = new GroupUser();
+			groupUser.setGroup(group);
+			groupUser.setUser(user);
+			groupUser.setStatus(GroupStatus.MEMBER);
+			groupUser.setRegDate(new Date());
+			group.getGroupUsers().add(groupUser);
+		}
+		groupRepository.save(group);
+
+		Topic topic = topicRepository.save(Topic.builder().group(group).topicContent("토픽").issueDate(DateUtil.today()).build());
+		content = contentRepository.save(Content.builder().topic(topic).users(users.get(0)).contentText("글")
+			.contentRegDate(Instant.now()).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> groupRepository.deleteByGroupId(group.getGroupId()));
+		userRepository.deleteAllById(users.stream().map(User::getUserId).toList());
+	}
+
+	@Test
+	void 동시에_여러_번_눌러도_사용자당_리액션은_하나() throws Exception {
+		// 사용자마다 같은 리액션을 홀수 번 눌렀으므로 모두 눌린 상태로 끝나야 함
+		ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT * TAPS_PER_USER);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (User user : users) {
+			for (int i = 0; i < TAPS_PER_USER; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return contentService.addOrUpdateReaction(content.getContentId(), user.getUserId(),
+						ReactionType.LOVE);
+				}));
+			}
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		List<ContentReaction> reactions = contentReactionRepository.findByContent_ContentId(content.getContentId());
+		assertThat(reactions).hasSize(USER_COUNT);
+		assertThat(reactions).extracting(reaction -> reaction.getUser().getUserId()).doesNotHaveDuplicates();
+		assertThat(contentReactionCountRepository.findPositiveByContentId(content.getContentId()))
+			.singleElement()
+			.extracting(ContentReactionCount::getCount)
+			.isEqualTo((long)USER_COUNT);
+	}
+}
@@ -0,0 +1,155 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.woory.backend.dto.ContentDto;
+import com.woory.backend.dto.ContentReactionDto;
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.Favorite;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupDailySummary;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.ReactionType;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.User;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.repository.FavoriteRepository;
+import com.woory.backend.repository.GroupDailySummaryRepository;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.GroupUserRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.repository.UserRepository;
+import com.woory.backend.utils.DateUtil;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ContentServiceTest {
+
+	private static final String IMAGE_PATH = "http://127.0.0.1:8081/test-bucket/test/calendar.png";
+
+	@Autowired
+	private ContentService contentService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private ContentRepository contentRepository;
+	@Autowired
+	private FavoriteRepository favoriteRepository;
+	@Autowired
+	private GroupUserRepository groupUserRepository;
+	@Autowired
+	private GroupDailySummaryRepository groupDailySummaryRepository;
+	@Autowired
+	private GroupDailySummaryService groupDailySummaryService;
+	@Autowired
+	private EntityManager entityManager;
+
+	private List<User> users;
+	private Content content;
+
+	@BeforeEach
+	void setUp() {
+		users = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			users.add(userRepository.save(User.builder().nickname("사용자" + i).role("ROLE_USER").build()));
+		}
+
+		Group group = new Group();
+		group.setGroupName("우리");
+		for (User user : users) {
+			GroupUser groupUser = new GroupUser();
+			groupUser.setGroup(group);
+			groupUser.setUser(user);
+			groupUser.setStatus(GroupStatus.MEMBER);
+			groupUser.setRegDate(new Date());
+			group.getGroupUsers().add(groupUser);
+		}
+		groupRepository.save(group);
+
+		Topic topic = topicRepository.save(Topic.builder().group(group).topicContent("토픽").issueDate(DateUtil.today()).build());
+		content = contentRepository.save(Content.builder().topic(topic).users(users.get(0)).contentText("글")
+			.contentRegDate(Instant.now()).build());
+		entityManager.flush();
+		entityManager.clear();
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new CustomOAuth2User(UserDto.builder().userId(users.get(0).getUserId()).role("ROLE_USER").build()), null,
+			List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 리액션_추가_변경_취소가_집계에_반영() {
+		Long contentId = content.getContentId();
+		contentService.addOrUpdateReaction(contentId, users.get(0).getUserId(), ReactionType.LOVE);
+		contentService.addOrUpdateReaction(contentId, users.get(1).getUserId(), ReactionType.LOVE);
+		contentService.addOrUpdateReaction(contentId, users.get(2).getUserId(), ReactionType.LIKE);
+		// 다른 리액션으로 변경, 같은 리액션을 다시 눌러 취소
+		contentService.addOrUpdateReaction(contentId, users.get(1).getUserId(), ReactionType.WOW);
+		contentService.addOrUpdateReaction(contentId, users.get(2).getUserId(), ReactionType.LIKE);
+		entityManager.flush();
+		entityManager.clear();
+
+		List<ContentReactionDto.ForStatistics> statistics = contentService.getReactionsByContentId(contentId);
+
+		assertThat(statistics).extracting(ContentReactionDto.ForStatistics::getReactionType,
+				ContentReactionDto.ForStatistics::getCount, ContentReactionDto.ForStatistics::isIsActive)
+			.containsExactly(tuple(ReactionType.LOVE, 1L, true), tuple(ReactionType.WOW, 1L, false));
+	}
+
+	@Test
+	void 달력은_하루_요약에서_첫_이미지와_즐겨찾기를_표시() {
+		Topic topic = topicRepository.findByTopicId(content.getTopic().getTopicId()).orElseThrow();
+		contentRepository.save(Content.builder().topic(topic).users(users.get(1)).contentText("사진 글")
+			.contentImgPath(IMAGE_PATH).contentRegDate(Instant.now()).build());
+		favoriteRepository.save(Favorite.builder().groupUser(groupUserRepository.findByUser_UserIdAndGroup_GroupId(
+			users.get(0).getUserId(), topic.getGroup().getGroupId()).orElseThrow()).topic(topic)
+			.groupId(topic.getGroup().getGroupId()).build());
+		// 테스트 트랜잭션은 커밋되지 않으므로 커밋 이후 계산을 직접 호출
+		groupDailySummaryService.refresh(topic.getTopicId());
+		entityManager.flush();
+		entityManager.clear();
+
+		List<ContentDto> calendar = contentService.getContentsByRegDateMonthLike(topic.getGroup().getGroupId(),
+			YearMonth.now(DateUtil.ZONE).toString());
+
+		assertThat(calendar).singleElement().satisfies(day -> {
+			assertThat(day.getContentImgPath()).isEqualTo(IMAGE_PATH);
+			assertThat(day.isIsFavorite()).isTrue();
+		});
+		assertThat(groupDailySummaryRepository.findAll())
+			.filteredOn(summary -> summary.getTopicId().equals(topic.getTopicId()))
+			.singleElement()
+			.extracting(GroupDailySummary::getPostCount).isEqualTo(2);
+	}
+}
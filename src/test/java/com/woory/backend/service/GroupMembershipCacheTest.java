@@ -0,0 +1,116 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.error.CustomException;
+import com.woory.backend.error.ErrorCode;
+import com.woory.backend.repository.GroupUserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class GroupMembershipCacheTest {
+
+	private final GroupUserRepository groupUserRepository = mock(GroupUserRepository.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final GroupMembershipCache cache = new GroupMembershipCache(groupUserRepository, transactionManager,
+		true, new SimpleMeterRegistry(), 100, 300);
+
+	@Test
+	void 가입_상태는_한번만_조회() {
+		when(groupUserRepository.findStatusByUserIdAndGroupId(1L, 10L)).thenReturn(Optional.of(GroupStatus.MEMBER));
+
+		assertThat(cache.getStatus(1L, 10L)).contains(GroupStatus.MEMBER);
+		assertThat(cache.getStatus(1L, 10L)).contains(GroupStatus.MEMBER);
+
+		verify(groupUserRepository, times(1)).findStatusByUserIdAndGroupId(1L, 10L);
+	}
+
+	@Test
+	void 가입하지_않은_경우는_저장하지_않음() {
+		when(groupUserRepository.findStatusByUserIdAndGroupId(1L, 10L))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(GroupStatus.MEMBER));
+
+		assertThatThrownBy(() -> cache.getStatusOrThrow(1L, 10L, ErrorCode.USER_NOT_FOUND_IN_GROUP))
+			.isInstanceOf(CustomException.class);
+		assertThat(cache.getStatus(1L, 10L)).contains(GroupStatus.MEMBER);
+	}
+
+	@Test
+	void 그룹_또는_사용자_단위로_비움() {
+		when(groupUserRepository.findStatusByUserIdAndGroupId(anyLong(), anyLong()))
+			.thenReturn(Optional.of(GroupStatus.MEMBER));
+		cache.getStatus(1L, 10L);
+		cache.getStatus(2L, 10L);
+		cache.getStatus(1L, 110L);
+
+		cache.invalidateGroup(10L);
+		cache.getStatus(1L, 10L);
+		cache.getStatus(2L, 10L);
+		cache.getStatus(1L, 110L);
+		verify(groupUserRepository, times(2)).findStatusByUserIdAndGroupId(1L, 10L);
+		verify(groupUserRepository, times(2)).findStatusByUserIdAndGroupId(2L, 10L);
+		verify(groupUserRepository, times(1)).findStatusByUserIdAndGroupId(1L, 110L);
+
+		cache.invalidateUser(1L);
+		cache.getStatus(1L, 110L);
+		cache.getStatus(2L, 10L);
+		verify(groupUserRepository, times(2)).findStatusByUserIdAndGroupId(1L, 110L);
+		verify(groupUserRepository, times(2)).findStatusByUserIdAndGroupId(2L, 10L);
+	}
+
+	@Test
+	void 읽기_전용_트랜잭션에서도_기본_DB_에서_읽음() {
+		when(groupUserRepository.findStatusByUserIdAndGroupId(1L, 10L)).thenReturn(Optional.of(GroupStatus.MEMBER));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try {
+			assertThat(cache.getStatus(1L, 10L)).contains(GroupStatus.MEMBER);
+		} finally {
+			TransactionSynchronizationManager.clear();
+		}
+
+		verify(transactionManager).getTransaction(argThat(definition ->
+			definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+				&& !definition.isReadOnly()));
+	}
+
+	@Test
+	void 복제_DB_를_쓰지_않으면_읽기_전용_트랜잭션에서_그대로_조회() {
+		GroupMembershipCache singleDataSourceCache = new GroupMembershipCache(groupUserRepository, transactionManager,
+			false, new SimpleMeterRegistry(), 100, 300);
+		when(groupUserRepository.findStatusByUserIdAndGroupId(1L, 10L)).thenReturn(Optional.of(GroupStatus.MEMBER));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		try {
+			assertThat(singleDataSourceCache.getStatus(1L, 10L)).contains(GroupStatus.MEMBER);
+		} finally {
+			TransactionSynchronizationManager.clear();
+		}
+
+		verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	void 쓰기_트랜잭션에서는_그대로_조회() {
+		when(groupUserRepository.findStatusByUserIdAndGroupId(1L, 10L)).thenReturn(Optional.of(GroupStatus.MEMBER));
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			assertThat(cache.getStatus(1L, 10L)).contains(GroupStatus.MEMBER);
+		} finally {
+			TransactionSynchronizationManager.clear();
+		}
+
+		verifyNoInteractions(transactionManager);
+	}
+}
@@ -0,0 +1,154 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.Comment;
+import com.woory.backend.entity.Content;
+import com.woory.backend.entity.ContentReaction;
+import com.woory.backend.entity.Favorite;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.ImageDeletion;
+import com.woory.backend.entity.ReactionType;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.User;
+import com.woory.backend.repository.CommentRepository;
+import com.woory.backend.repository.ContentReactionRepository;
+import com.woory.backend.repository.ContentRepository;
+import com.woory.backend.repository.FavoriteRepository;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.GroupUserRepository;
+import com.woory.backend.repository.ImageDeletionRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.repository.UserRepository;
+import com.woory.backend.utils.DateUtil;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class GroupServiceTest {
+
+	private static final String IMAGE_PATH = "http://127.0.0.1:8081/test-bucket/test/banned.png";
+
+	@Autowired
+	private GroupService groupService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private GroupUserRepository groupUserRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private ContentRepository contentRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private ContentReactionRepository contentReactionRepository;
+	@Autowired
+	private FavoriteRepository favoriteRepository;
+	@Autowired
+	private ImageDeletionRepository imageDeletionRepository;
+	@Autowired
+	private EntityManager entityManager;
+
+	private Group group;
+	private User leader;
+	private User banned;
+	private Content leaderContent;
+
+	@BeforeEach
+	void setUp() {
+		leader = userRepository.save(User.builder().nickname("가장").role("ROLE_USER").build());
+		banned = userRepository.save(User.builder().nickname("추방").role("ROLE_USER").build());
+
+		group = new Group();
+		group.setGroupName("우리");
+		group.getGroupUsers().add(groupUser(leader, GroupStatus.GROUP_LEADER));
+		GroupUser bannedGroupUser = groupUser(banned, GroupStatus.MEMBER);
+		group.getGroupUsers().add(bannedGroupUser);
+		groupRepository.save(group);
+
+		Topic topic = topicRepository.save(Topic.builder().group(group).topicContent("토픽").issueDate(DateUtil.today()).build());
+		leaderContent = contentRepository.save(Content.builder().topic(topic).users(leader).contentText("가장 글")
+			.contentRegDate(Instant.now()).build());
+		Content bannedContent = contentRepository.save(Content.builder().topic(topic).users(banned)
+			.contentText("추방 글").contentImgPath(IMAGE_PATH).contentRegDate(Instant.now()).build());
+
+		// 추방되는 사용자의 댓글에 달린 가장의 답글, 추방되는 사용자의 글에 달린 가장의 댓글과 답글
+		Comment bannedComment = comment(leaderContent, banned, null);
+		comment(leaderContent, leader, bannedComment);
+		Comment leaderComment = comment(bannedContent, leader, null);
+		comment(bannedContent, leader, leaderComment);
+		comment(leaderContent, leader, null);
+
+		contentReactionRepository.save(new ContentReaction(leaderContent, banned, ReactionType.LOVE));
+		contentReactionRepository.save(new ContentReaction(bannedContent, leader, ReactionType.LOVE));
+		favoriteRepository.save(Favorite.builder().groupUser(bannedGroupUser).topic(topic)
+			.groupId(group.getGroupId()).build());
+
+		entityManager.flush();
+		entityManager.clear();
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new CustomOAuth2User(UserDto.builder().userId(leader.getUserId()).role("ROLE_USER").build()), null,
+			List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 추방하면_그룹_안의_글_댓글_반응_즐겨찾기를_모두_삭제() {
+		groupService.banGroup(group.getGroupId(), banned.getUserId());
+		entityManager.clear();
+
+		assertThat(groupUserRepository.findByUser_UserIdAndGroup_GroupId(banned.getUserId(), group.getGroupId()))
+			.isEmpty();
+		assertThat(contentRepository.findAll()).extracting(Content::getContentId)
+			.containsExactly(leaderContent.getContentId());
+		// 가장이 가장 글에 단 댓글 하나만 남음
+		assertThat(commentRepository.findAll()).singleElement()
+			.satisfies(comment -> assertThat(comment.getUsers().getUserId()).isEqualTo(leader.getUserId()));
+		assertThat(contentReactionRepository.findAll()).isEmpty();
+		assertThat(favoriteRepository.findAll()).isEmpty();
+		assertThat(imageDeletionRepository.findAll()).extracting(ImageDeletion::getImagePath)
+			.containsExactly(IMAGE_PATH);
+	}
+
+	private GroupUser groupUser(User user, GroupStatus status) {
+		GroupUser groupUser = new GroupUser();
+		groupUser.setGroup(group);
+		groupUser.setUser(user);
+		groupUser.setStatus(status);
+		groupUser.setRegDate(new Date());
+		return groupUser;
+	}
+
+	private Comment comment(Content content, User user, Comment parent) {
+		return commentRepository.save(Comment.builder().content(content).users(user).parentComment(parent)
+			.commentText("댓글").commentDate(new Date()).build());
+	}
+}
@@ -0,0 +1,139 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.woory.backend.entity.ImageDeletion;
+import com.woory.backend.entity.ImageDeletionStatus;
+import com.woory.backend.repository.ImageDeletionRepository;
+
+import io.findify.s3mock.S3Mock;
+
+@Import(S3MockConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(properties = "image.deletion.interval-ms=3600000")
+public class ImageDeletionServiceTest {
+	private static final String BUCKET_NAME = "test-bucket";
+	private static final byte[] PNG = Base64.getDecoder().decode(
+		"iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+	@Autowired
+	private AmazonS3 amazonS3;
+
+	@Autowired
+	private AwsService awsService;
+
+	@Autowired
+	private ImageDeletionService imageDeletionService;
+
+	@Autowired
+	private ImageDeletionRepository imageDeletionRepository;
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	@BeforeAll
+	static void setUp(@Autowired S3Mock s3Mock, @Autowired AmazonS3 amazonS3) {
+		s3Mock.start();
+		amazonS3.createBucket(BUCKET_NAME);
+	}
+
+	@AfterAll
+	static void destroy(@Autowired S3Mock s3Mock, @Autowired AmazonS3 amazonS3) {
+		amazonS3.shutdown();
+		s3Mock.stop();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		imageDeletionRepository.deleteAll();
+	}
+
+	@Test
+	void 대기열의_이미지를_일괄_삭제() {
+		String first = awsService.saveStream(new ByteArrayInputStream(PNG), PNG.length);
+		String second = awsService.saveStream(new ByteArrayInputStream(PNG), PNG.length);
+		imageDeletionService.enqueue(first);
+		imageDeletionService.enqueue(second);
+		// 같은 이미지가 두 번 들어와도 한 번에 처리
+		imageDeletionService.enqueue(first);
+
+		imageDeletionService.drain();
+
+		assertThat(amazonS3.doesObjectExist(bucket, awsService.toObjectKey(first).orElseThrow())).isFalse();
+		assertThat(amazonS3.doesObjectExist(bucket, awsService.toObjectKey(second).orElseThrow())).isFalse();
+		assertThat(imageDeletionRepository.findAll()).isEmpty();
+	}
+
+	@Test
+	void 다른_서버가_선점한_항목은_건너뜀() {
+		String claimed = awsService.saveStream(new ByteArrayInputStream(PNG), PNG.length);
+		String free = awsService.saveStream(new ByteArrayInputStream(PNG), PNG.length);
+		imageDeletionService.enqueue(claimed);
+		imageDeletionService.enqueue(free);
+		Long claimedId = imageDeletionRepository.findAll().stream()
+			.filter(deletion -> deletion.getImagePath().equals(claimed))
+			.findFirst().orElseThrow().getId();
+		Date now = new Date();
+		assertThat(imageDeletionRepository.claim(List.of(claimedId), ImageDeletionStatus.PENDING, now, "other-server",
+			new Date(now.getTime() + 60_000))).isEqualTo(1);
+
+		imageDeletionService.drain();
+
+		assertThat(amazonS3.doesObjectExist(bucket, awsService.toObjectKey(claimed).orElseThrow())).isTrue();
+		assertThat(amazonS3.doesObjectExist(bucket, awsService.toObjectKey(free).orElseThrow())).isFalse();
+		assertThat(imageDeletionRepository.findAll()).singleElement().satisfies(deletion -> {
+			assertThat(deletion.getId()).isEqualTo(claimedId);
+			assertThat(deletion.getClaimedBy()).isEqualTo("other-server");
+		});
+	}
+
+	@Test
+	void 버킷_밖의_경로는_DEAD_로_남김() {
+		String foreign = "https://upload.wikimedia.org/wikipedia/commons/a.png";
+		imageDeletionService.enqueue(foreign);
+
+		imageDeletionService.drain();
+
+		List<ImageDeletion> remaining = imageDeletionRepository.findAll();
+		assertThat(remaining).singleElement().satisfies(deletion -> {
+			assertThat(deletion.getImagePath()).isEqualTo(foreign);
+			assertThat(deletion.getStatus()).isEqualTo(ImageDeletionStatus.DEAD);
+		});
+	}
+
+	@Test
+	void 실패가_반복되면_DEAD_로_남김() {
+		ImageDeletion deletion = ImageDeletion.of("http://127.0.0.1:8081/test-bucket/test/a.png");
+
+		deletion.fail("InternalError", 2, 0);
+		assertThat(deletion.getStatus()).isEqualTo(ImageDeletionStatus.PENDING);
+		deletion.fail("InternalError", 2, 0);
+
+		assertThat(deletion.getStatus()).isEqualTo(ImageDeletionStatus.DEAD);
+		assertThat(deletion.getAttempts()).isEqualTo(2);
+	}
+
+	@Test
+	void 빈_경로는_대기열에_넣지_않음() {
+		imageDeletionService.enqueue(null);
+		imageDeletionService.enqueue("");
+
+		assertThat(imageDeletionRepository.findAll()).isEmpty();
+	}
+}
@@ -0,0 +1,133 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.woory.backend.entity.KakaoUnlink;
+import com.woory.backend.entity.KakaoUnlinkStatus;
+import com.woory.backend.repository.KakaoUnlinkRepository;
+
+/**
+ * 카카오 대신 로컬 스텁 서버를 띄워, 보내지 못한 연결 끊기가 대기열에 남았다가 다시 보내지는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class KakaoUnlinkServiceTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+	private static final int MAX_ATTEMPTS = 2;
+
+	@Autowired
+	private KakaoUnlinkRepository kakaoUnlinkRepository;
+
+	private HttpServer server;
+	private final AtomicInteger status = new AtomicInteger(200);
+	private final List<String> requests = new CopyOnWriteArrayList<>();
+	private KakaoUnlinkService kakaoUnlinkService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+		// 재시도 2번, 회로는 열리지 않게 함
+		OAuthProviderClient client = new OAuthProviderClient(baseUrl, baseUrl, "admin-key", 500, 300, 2, 100, 60, 4);
+		// 실패한 항목을 바로 다시 처리할 수 있도록 대기 시간 없이 재시도
+		kakaoUnlinkService = new KakaoUnlinkService(kakaoUnlinkRepository, client, 100, MAX_ATTEMPTS, 0, 300000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+		kakaoUnlinkRepository.deleteAll();
+	}
+
+	@Test
+	void 바로_보낸_연결_끊기가_성공하면_대기열에서_지움() {
+		kakaoUnlinkService.enqueue("1234");
+
+		await(() -> kakaoUnlinkRepository.count() == 0);
+		assertThat(requests).containsExactly("1234");
+	}
+
+	@Test
+	void 보내지_못한_연결_끊기는_남았다가_다시_보냄() throws InterruptedException {
+		status.set(503);
+		kakaoUnlinkService.enqueue("1234");
+
+		// 처음 보낸 호출의 재시도가 모두 끝날 때까지 기다림
+		await(() -> requests.size() == 3);
+		Thread.sleep(300);
+		assertThat(kakaoUnlinkRepository.findAll()).singleElement()
+			.extracting(KakaoUnlink::getKakaoId).isEqualTo("1234");
+
+		status.set(200);
+		kakaoUnlinkService.drain();
+
+		assertThat(kakaoUnlinkRepository.findAll()).isEmpty();
+		assertThat(requests).hasSize(4);
+	}
+
+	@Test
+	void 계속_실패하면_DEAD_로_남기고_더_보내지_않음() throws InterruptedException {
+		status.set(503);
+		kakaoUnlinkService.enqueue("1234");
+		await(() -> requests.size() == 3);
+		Thread.sleep(300);
+
+		for (int i = 0; i < MAX_ATTEMPTS; i++) {
+			kakaoUnlinkService.drain();
+		}
+		int sent = requests.size();
+		kakaoUnlinkService.drain();
+
+		assertThat(requests).hasSize(sent);
+		KakaoUnlink unlink = kakaoUnlinkRepository.findAll().get(0);
+		assertThat(unlink.getStatus()).isEqualTo(KakaoUnlinkStatus.DEAD);
+		assertThat(unlink.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		requests.add(body.substring(body.indexOf("target_id=") + "target_id=".length()));
+		byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status.get(), response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(response);
+		}
+	}
+
+	private void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("호출이 끝나기를 기다리는 중 시간 초과").isLessThan(deadline);
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실제 연결 대신 보낸 이벤트를 기록하고 시간 초과, 오류 콜백을 직접 부를 수 있는 SseEmitter 로 확인
+ */
+public class NotificationEmitterRegistryTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private final List<TestEmitter> emitters = new CopyOnWriteArrayList<>();
+	private NotificationEmitterRegistry registry;
+
+	@AfterEach
+	void tearDown() {
+		if (registry != null) {
+			registry.shutdown();
+		}
+	}
+
+	@Test
+	void 구독하면_연결_이벤트를_받음() {
+		registry = registry(32, 5);
+
+		registry.subscribe(1L, 10L);
+
+		await(() -> emitter(0).sent().size() == 1);
+		assertThat(emitter(0).sent().get(0)).contains("event:connect", "data:connected");
+		assertThat(registry.hasSubscriber(1L, 10L)).isTrue();
+		assertThat(registry.getSubscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 사용자별_최대_연결을_넘으면_오래된_연결부터_종료() {
+		registry = registry(32, 2);
+
+		registry.subscribe(1L, 10L);
+		registry.subscribe(1L, 10L);
+		registry.subscribe(1L, 10L);
+
+		assertThat(emitter(0).completed).isTrue();
+		assertThat(emitter(1).completed).isFalse();
+		assertThat(emitter(2).completed).isFalse();
+		assertThat(registry.getSubscriberCount()).isEqualTo(2);
+	}
+
+	@Test
+	void 그룹_알림은_작성자를_빼고_보냄() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+		registry.subscribe(1L, 20L);
+		registry.subscribe(2L, 30L);
+		await(() -> emitters.stream().allMatch(e -> e.sent().size() == 1));
+
+		registry.sendToGroup(1L, 10L, "새 글");
+
+		await(() -> emitter(1).sent().size() == 2);
+		assertThat(emitter(1).sent().get(1)).contains("event:notification", "새 글");
+		assertThat(emitter(0).sent()).hasSize(1);
+		assertThat(emitter(2).sent()).hasSize(1);
+	}
+
+	@Test
+	void 하트비트는_모든_연결에_보냄() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+		registry.subscribe(2L, 20L);
+
+		registry.heartbeat();
+
+		await(() -> emitters.stream().allMatch(e -> e.sent().size() == 2));
+		assertThat(emitters).allSatisfy(e -> assertThat(e.sent().get(1)).contains(":heartbeat"));
+	}
+
+	@Test
+	void 시간_초과되면_정리() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+
+		emitter(0).timeoutCallback.run();
+
+		assertThat(emitter(0).completed).isTrue();
+		assertThat(registry.hasSubscribers(1L)).isFalse();
+		assertThat(registry.getSubscribedGroupIds()).isEmpty();
+		assertThat(registry.getSubscriberCount()).isZero();
+	}
+
+	@Test
+	void 연결_오류가_나면_정리() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+
+		emitter(0).errorCallback.accept(new IOException("connection reset"));
+
+		assertThat(registry.hasSubscriber(1L, 10L)).isFalse();
+		assertThat(registry.getSubscriberCount()).isZero();
+	}
+
+	@Test
+	void 전송에_실패하면_정리() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+		registry.subscribe(1L, 20L);
+		await(() -> emitters.stream().allMatch(e -> e.sent().size() == 1));
+		emitter(0).failure = new IOException("broken pipe");
+
+		registry.sendToGroup(1L, null, "새 글");
+
+		await(() -> !registry.hasSubscriber(1L, 10L));
+		await(() -> emitter(1).sent().size() == 2);
+		assertThat(registry.hasSubscriber(1L, 20L)).isTrue();
+		assertThat(registry.getSubscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 이미_끝난_연결에_보내면_정리() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+		await(() -> emitter(0).sent().size() == 1);
+		// 완료 콜백이 오기 전에 연결이 끝난 경우
+		emitter(0).finished = true;
+
+		registry.sendToUser(1L, 10L, "새 글");
+
+		await(() -> !registry.hasSubscriber(1L, 10L));
+		assertThat(emitter(0).sent()).hasSize(1);
+	}
+
+	@Test
+	void 완료된_연결에는_더_보내지_않음() {
+		registry = registry(32, 5);
+		registry.subscribe(1L, 10L);
+		await(() -> emitter(0).sent().size() == 1);
+
+		emitter(0).complete();
+		registry.sendToUser(1L, 10L, "새 글");
+		registry.heartbeat();
+
+		assertThat(registry.hasSubscriber(1L, 10L)).isFalse();
+		assertThat(emitter(0).sent()).hasSize(1);
+	}
+
+	@Test
+	void 전송이_밀리면_연결_종료() throws InterruptedException {
+		registry = registry(2, 5);
+		CountDownLatch release = new CountDownLatch(1);
+		registry.subscribe(1L, 10L);
+		emitter(0).release = release;
+
+		// 첫 전송이 막혀 있는 동안 큐(2개)를 넘게 쌓음
+		registry.sendToUser(1L, 10L, "1");
+		Thread.sleep(100);
+		registry.sendToUser(1L, 10L, "2");
+		registry.sendToUser(1L, 10L, "3");
+		registry.sendToUser(1L, 10L, "4");
+		release.countDown();
+
+		assertThat(emitter(0).completed).isTrue();
+		assertThat(registry.hasSubscriber(1L, 10L)).isFalse();
+		assertThat(registry.getSubscriberCount()).isZero();
+	}
+
+	private NotificationEmitterRegistry registry(int queueCapacity, int maxPerUser) {
+		return new NotificationEmitterRegistry(60_000, queueCapacity, maxPerUser, 1) {
+			@Override
+			SseEmitter createEmitter() {
+				TestEmitter emitter = new TestEmitter();
+				emitters.add(emitter);
+				return emitter;
+			}
+		};
+	}
+
+	private TestEmitter emitter(int index) {
+		return emitters.get(index);
+	}
+
+	private void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("조건을 기다리는 중 시간 초과").isLessThan(deadline);
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static class TestEmitter extends SseEmitter {
+		private final List<String> sent = new CopyOnWriteArrayList<>();
+		private volatile boolean completed;
+		private volatile boolean finished;
+		private volatile IOException failure;
+		private volatile CountDownLatch release;
+		private Runnable timeoutCallback;
+		private Runnable completionCallback;
+		private Consumer<Throwable> errorCallback;
+
+		List<String> sent() {
+			return sent;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			CountDownLatch latch = release;
+			if (latch != null) {
+				try {
+					latch.await(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (completed || finished) {
+				throw new IllegalStateException("ResponseBodyEmitter has already completed");
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			sent.add(builder.build().stream()
+				.map(data -> data.getData().toString())
+				.collect(Collectors.joining()));
+		}
+
+		@Override
+		public synchronized void complete() {
+			completed = true;
+			// 실제로는 비동기 요청이 끝난 뒤 컨테이너가 부름
+			if (completionCallback != null) {
+				completionCallback.run();
+			}
+		}
+
+		@Override
+		public synchronized void onTimeout(Runnable callback) {
+			this.timeoutCallback = callback;
+		}
+
+		@Override
+		public synchronized void onError(Consumer<Throwable> callback) {
+			this.errorCallback = callback;
+		}
+
+		@Override
+		public synchronized void onCompletion(Runnable callback) {
+			this.completionCallback = callback;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.NotificationResponseDto;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.Notification;
+import com.woory.backend.entity.User;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.NotificationRepository;
+import com.woory.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+
+/**
+ * 그룹 알림과 내 알림을 합쳐 (issueDate, id) 역순으로 자르는 알림 목록 쿼리 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class NotificationServiceTest {
+
+	private static final Date BASE = new Date(1_720_000_000_000L);
+
+	@Autowired
+	private NotificationService notificationService;
+	@Autowired
+	private NotificationRepository notificationRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private EntityManager entityManager;
+
+	private User me;
+	private User other;
+	private Group group;
+	// 내가 받아야 하는 알림
+	private final List<Notification> expected = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		me = userRepository.save(User.builder().nickname("나").role("ROLE_USER").build());
+		other = userRepository.save(User.builder().nickname("가족").role("ROLE_USER").build());
+		group = group("우리", me, other);
+		Group otherGroup = group("다른 가족", other);
+
+		// 그룹 알림
+		expected.add(save(Notification.fromCreatingTopic(group.getGroupId(), 1L, BASE, "토픽", at(5))));
+		expected.add(save(Notification.fromCreatingContent(group.getGroupId(), other.getUserId(), "가족", 1L, at(3))));
+		// 내 알림, 그룹 알림과 같은 시각인 알림 포함
+		expected.add(save(Notification.fromCreatingComment(group.getGroupId(), 1L, other.getUserId(), "가족", 1L,
+			me.getUserId(), at(3))));
+		expected.add(save(Notification.fromCreatingReply(group.getGroupId(), 1L, other.getUserId(), "가족", 2L,
+			me.getUserId(), at(3))));
+		expected.add(save(Notification.fromCreatingEmoji(group.getGroupId(), 1L, other.getUserId(), "가족", 3L,
+			me.getUserId(), at(3))));
+		expected.add(save(Notification.fromCreatingContent(group.getGroupId(), other.getUserId(), "가족", 2L, at(1))));
+		expected.add(save(Notification.fromCreatingEmoji(group.getGroupId(), 2L, other.getUserId(), "가족", 4L,
+			me.getUserId(), at(0))));
+		expected.sort(Comparator.comparing(Notification::getIssueDate).thenComparing(Notification::getId).reversed());
+
+		// 받지 않아야 하는 알림: 내가 쓴 글, 다른 사람이 받은 반응, 다른 그룹의 알림
+		save(Notification.fromCreatingContent(group.getGroupId(), me.getUserId(), "나", 3L, at(4)));
+		save(Notification.fromCreatingEmoji(group.getGroupId(), 3L, me.getUserId(), "나", 5L, other.getUserId(), at(2)));
+		save(Notification.fromCreatingTopic(otherGroup.getGroupId(), 2L, BASE, "토픽", at(6)));
+
+		entityManager.flush();
+		entityManager.clear();
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new CustomOAuth2User(UserDto.builder().userId(me.getUserId()).role("ROLE_USER").build()), null, List.of()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 커서가_없으면_가장_최근_알림부터_합쳐서_정렬() {
+		List<NotificationResponseDto> notifications = notificationService.getNotifications(group.getGroupId(), null,
+			null, 50);
+
+		assertThat(notifications).extracting(NotificationResponseDto::getNotificationId)
+			.containsExactlyElementsOf(ids(expected));
+	}
+
+	@Test
+	void 같은_시각의_알림이_있어도_커서로_빠짐없이_중복없이_이어서_조회() {
+		List<Long> received = new ArrayList<>();
+		Long beforeDate = null;
+		Long beforeId = null;
+		// 같은 시각의 알림 네 건이 페이지 경계에 걸치도록 두 건씩 조회
+		for (int page = 0; page < expected.size(); page++) {
+			List<NotificationResponseDto> notifications = notificationService.getNotifications(group.getGroupId(),
+				beforeDate, beforeId, 2);
+			if (notifications.isEmpty()) {
+				break;
+			}
+			notifications.forEach(notification -> received.add(notification.getNotificationId()));
+			NotificationResponseDto last = notifications.get(notifications.size() - 1);
+			beforeDate = last.getIssueDate().getTime();
+			beforeId = last.getNotificationId();
+		}
+
+		assertThat(received).containsExactlyElementsOf(ids(expected));
+	}
+
+	@Test
+	void 내가_쓴_글의_알림은_받지_않음() {
+		List<NotificationResponseDto> notifications = notificationService.getNotifications(group.getGroupId(), null,
+			null, 50);
+
+		assertThat(notifications).noneSatisfy(notification ->
+			assertThat(notification.getContentUser()).isEqualTo(me.getNickname()));
+	}
+
+	private Group group(String name, User... users) {
+		Group group = new Group();
+		group.setGroupName(name);
+		for (User user : users) {
+			GroupUser groupUser = new GroupUser();
+			groupUser.setGroup(group);
+			groupUser.setUser(user);
+			groupUser.setStatus(GroupStatus.MEMBER);
+			groupUser.setRegDate(new Date());
+			group.getGroupUsers().add(groupUser);
+		}
+		return groupRepository.save(group);
+	}
+
+	private Notification save(Notification notification) {
+		return notificationRepository.save(notification);
+	}
+
+	private Date at(int seconds) {
+		return new Date(BASE.getTime() + seconds * 1000L);
+	}
+
+	private List<Long> ids(List<Notification> notifications) {
+		return notifications.stream().map(Notification::getId).toList();
+	}
+}
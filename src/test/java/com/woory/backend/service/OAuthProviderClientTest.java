@@ -0,0 +1,204 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 네이버/카카오 대신 로컬 스텁 서버를 띄워 재시도, 타임아웃, 회로 차단을 확인
+ */
+public class OAuthProviderClientTest {
+
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private HttpServer server;
+	private final AtomicInteger status = new AtomicInteger(200);
+	private final AtomicInteger delayMillis = new AtomicInteger();
+	private final List<String> requests = new CopyOnWriteArrayList<>();
+	private OAuthProviderClient client;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		// 타임아웃 뒤 재시도가 앞선 느린 요청에 막히지 않도록 요청마다 스레드 사용
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+		// 재시도 2번, 연속 실패 2번이면 회로 열림, 동시에 2건까지 보냄
+		client = new OAuthProviderClient(baseUrl, baseUrl, "admin-key", 500, 300, 2, 2, 60, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void 카카오_연결_끊기_요청() {
+		assertThat(client.unlinkKakaoRequest("1234").block(WAIT)).isTrue();
+
+		assertThat(requests).containsExactly(
+			"/v1/user/unlink KakaoAK admin-key target_id_type=user_id&target_id=1234");
+	}
+
+	@Test
+	void 네이버_토큰_폐기_요청() {
+		client.revokeTokenRequest(naver(), "token").block(WAIT);
+
+		assertThat(requests).hasSize(1);
+		assertThat(requests.get(0)).startsWith("/oauth2.0/token")
+			.contains("grant_type=delete", "client_id=naver-id", "access_token=token");
+	}
+
+	@Test
+	void 서버_오류는_재시도() {
+		status.set(503);
+
+		// 재시도를 모두 실패하면 나중에 다시 보내야 함
+		assertThat(client.unlinkKakaoRequest("1234").block(WAIT)).isFalse();
+		assertThat(requests).hasSize(3);
+	}
+
+	@Test
+	void 응답이_늦으면_재시도() {
+		delayMillis.set(1000);
+
+		client.unlinkKakaoRequest("1234").block(WAIT);
+
+		assertThat(requests).hasSize(3);
+	}
+
+	@Test
+	void 클라이언트_오류는_재시도하지_않고_회로도_열지_않음() {
+		status.set(401);
+
+		// 다시 보내도 같은 결과이므로 끝난 것으로 봄
+		assertThat(client.unlinkKakaoRequest("1234").block(WAIT)).isTrue();
+		client.unlinkKakaoRequest("1234").block(WAIT);
+		client.unlinkKakaoRequest("1234").block(WAIT);
+
+		assertThat(requests).hasSize(3);
+	}
+
+	@Test
+	void 연속_실패하면_회로가_열려_호출하지_않음() {
+		status.set(500);
+
+		client.unlinkKakaoRequest("1234").block(WAIT);
+		client.unlinkKakaoRequest("1234").block(WAIT);
+		assertThat(requests).hasSize(6);
+
+		assertThat(client.unlinkKakaoRequest("1234").block(WAIT)).isFalse();
+		assertThat(requests).hasSize(6);
+
+		// 제공자별로 회로가 따로 있음
+		client.revokeTokenRequest(naver(), "token").block(WAIT);
+		assertThat(requests).hasSize(9);
+	}
+
+	@Test
+	void 트랜잭션_안에서는_커밋_후에_보냄() throws InterruptedException {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			client.revokeToken(naver(), "token");
+			Thread.sleep(200);
+			assertThat(requests).isEmpty();
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		awaitRequests(1);
+		assertThat(requests).hasSize(1);
+	}
+
+	@Test
+	void 트랜잭션이_없으면_기다리지_않고_보냄() throws InterruptedException {
+		delayMillis.set(2000);
+
+		long start = System.nanoTime();
+		client.revokeToken(naver(), "token");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+		awaitRequests(1);
+		assertThat(requests).isNotEmpty();
+	}
+
+	@Test
+	void 동시에_보내는_호출_수를_넘으면_건너뜀() throws InterruptedException {
+		delayMillis.set(200);
+
+		client.revokeToken(naver(), "token");
+		client.revokeToken(naver(), "token");
+		client.revokeToken(naver(), "token");
+
+		awaitRequests(2);
+		Thread.sleep(500);
+		assertThat(requests).hasSize(2);
+
+		// 앞선 호출이 끝나면 다시 보낼 수 있음
+		client.revokeToken(naver(), "token");
+		awaitRequests(3);
+		assertThat(requests).hasSize(3);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+		requests.add(exchange.getRequestURI().getPath() + " " + authorization + " " + body);
+		try {
+			Thread.sleep(delayMillis.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+		try {
+			exchange.sendResponseHeaders(status.get(), response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		} catch (IOException e) {
+			// 타임아웃으로 클라이언트가 먼저 끊은 경우
+			exchange.close();
+		}
+	}
+
+	private void awaitRequests(int count) throws InterruptedException {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (requests.size() < count && System.nanoTime() < deadline) {
+			Thread.sleep(20);
+		}
+	}
+
+	private ClientRegistration naver() {
+		return ClientRegistration.withRegistrationId("naver")
+			.clientId("naver-id")
+			.clientSecret("naver-secret")
+			.authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+			.redirectUri("{baseUrl}/login/oauth2/code/naver")
+			.authorizationUri("https://nid.naver.com/oauth2.0/authorize")
+			.tokenUri("https://nid.naver.com/oauth2.0/token")
+			.build();
+	}
+}
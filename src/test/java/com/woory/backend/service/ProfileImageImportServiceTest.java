@@ -0,0 +1,55 @@
+package com.woory.backend.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.woory.backend.domain.ProfileImageImportEvent;
+import com.woory.backend.repository.UserRepository;
+
+public class ProfileImageImportServiceTest {
+
+	private static final String SOURCE_URL = "https://k.kakaocdn.net/profile.jpg";
+	private static final String DEFAULT_IMAGE = "https://bucket.s3.amazonaws.com/default.png";
+	private static final String IMPORTED_IMAGE = "https://bucket.s3.amazonaws.com/imported.jpg";
+
+	private final AwsService awsService = mock(AwsService.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final ImageDeletionService imageDeletionService = mock(ImageDeletionService.class);
+	private final ProfileImageImportService service = new ProfileImageImportService(awsService, userRepository,
+		imageDeletionService);
+	private final ProfileImageImportEvent event = new ProfileImageImportEvent(1L, SOURCE_URL, DEFAULT_IMAGE);
+
+	@Test
+	void 가져온_이미지로_프로필을_바꿈() {
+		when(awsService.saveFileFromUrl(SOURCE_URL)).thenReturn(IMPORTED_IMAGE);
+		when(userRepository.updateProfileImage(1L, DEFAULT_IMAGE, IMPORTED_IMAGE)).thenReturn(1);
+
+		service.importProfileImage(event);
+
+		verify(userRepository).updateProfileImage(1L, DEFAULT_IMAGE, IMPORTED_IMAGE);
+		verifyNoInteractions(imageDeletionService);
+	}
+
+	@Test
+	void 그사이_프로필이_바뀌었으면_가져온_이미지를_삭제_대기열에_넣음() {
+		when(awsService.saveFileFromUrl(SOURCE_URL)).thenReturn(IMPORTED_IMAGE);
+		// 사용자가 먼저 이미지를 바꿨거나 탈퇴해서 기본 이미지인 행이 없음
+		when(userRepository.updateProfileImage(1L, DEFAULT_IMAGE, IMPORTED_IMAGE)).thenReturn(0);
+
+		service.importProfileImage(event);
+
+		verify(imageDeletionService).enqueue(IMPORTED_IMAGE);
+	}
+
+	@Test
+	void 가져오지_못하면_기본_이미지를_그대로_둠() {
+		when(awsService.saveFileFromUrl(SOURCE_URL)).thenThrow(new IllegalStateException("다운로드 실패"));
+
+		service.importProfileImage(event);
+
+		verify(userRepository, never()).updateProfileImage(anyLong(), anyString(), anyString());
+		verifyNoInteractions(imageDeletionService);
+	}
+}
@@ -0,0 +1,183 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.entity.TopicGenerationProgress;
+import com.woory.backend.entity.TopicSet;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.TopicGenerationProgressRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.utils.DateUtil;
+import com.woory.backend.utils.TopicSetCatalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 작업이 구간마다 직접 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+public class TopicGenerationJobTest {
+
+	private static final int GROUP_COUNT = 25;
+	private static final int CHUNK_SIZE = 5;
+	private static final long TOPIC_SET_ID = 1L;
+	private static final Duration WAIT = Duration.ofSeconds(10);
+
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private TopicGenerationProgressRepository progressRepository;
+	@Autowired
+	private TopicSetCatalog topicSetCatalog;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private final List<Long> groupIds = new ArrayList<>();
+	private final List<TopicGenerationJob> jobs = new ArrayList<>();
+	// 다른 테스트의 토픽과 겹치지 않는 날짜
+	private final LocalDate issueDate = DateUtil.today().minusDays(30);
+	private final LocalDate nextDate = issueDate.plusDays(1);
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("insert ignore into topic_set (topic_id, topic_value, topic_byte) values (?, '가장 최근에 본 영화', 19)",
+			TOPIC_SET_ID);
+		topicSetCatalog.reload();
+		for (int i = 0; i < GROUP_COUNT; i++) {
+			Group group = new Group();
+			group.setGroupName("그룹" + i);
+			groupIds.add(groupRepository.save(group).getGroupId());
+		}
+		// 이 테스트에서 만든 그룹부터 처리하도록 시작 지점을 맞춤
+		TopicGenerationProgress progress = TopicGenerationProgress.start(issueDate, TOPIC_SET_ID);
+		progress.setLastGroupId(groupIds.get(0) - 1);
+		progressRepository.save(progress);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jobs.forEach(TopicGenerationJob::shutdown);
+		progressRepository.deleteById(issueDate);
+		progressRepository.deleteById(nextDate);
+		transactionTemplate.executeWithoutResult(status -> groupIds.forEach(groupRepository::deleteByGroupId));
+	}
+
+	@Test
+	void 도중에_중단된_작업은_재시작하면_이어서_처리() {
+		// 세 번째 구간을 처리하는 중에 서버가 죽은 것처럼 실패시킴
+		AtomicInteger calls = new AtomicInteger();
+		TopicRepository failingRepository = mock(TopicRepository.class, AdditionalAnswers.delegatesTo(topicRepository));
+		doAnswer(invocation -> {
+			if (calls.incrementAndGet() == 3) {
+				throw new IllegalStateException("서버 종료");
+			}
+			return topicRepository.insertMissingTopics(invocation.getArgument(0), invocation.getArgument(1),
+				invocation.getArgument(2), invocation.getArgument(3));
+		}).when(failingRepository).insertMissingTopics(any(TopicSet.class), any(LocalDate.class), anyLong(), anyLong());
+
+		job(failingRepository).run(issueDate);
+
+		TopicGenerationProgress interrupted = progressRepository.findById(issueDate).orElseThrow();
+		assertThat(interrupted.isCompleted()).isFalse();
+		assertThat(interrupted.getLastGroupId()).isEqualTo(groupIds.get(CHUNK_SIZE * 2 - 1));
+		assertThat(groupIds).filteredOn(groupId -> topic(groupId).isPresent()).hasSize(CHUNK_SIZE * 2);
+
+		job(topicRepository).resumeUnfinished();
+		await(() -> progressRepository.findById(issueDate).map(TopicGenerationProgress::isCompleted).orElse(false));
+
+		String topicContent = topicSetCatalog.findById(TOPIC_SET_ID).orElseThrow().getValue();
+		assertThat(groupIds).allSatisfy(groupId ->
+			assertThat(topic(groupId)).map(Topic::getTopicContent).contains(topicContent));
+		assertThat(jdbcTemplate.queryForObject(
+			"select count(*) from topic where issue_date = ? and group_id between ? and ?", Integer.class,
+			issueDate, groupIds.get(0), groupIds.get(GROUP_COUNT - 1))).isEqualTo(GROUP_COUNT);
+	}
+
+	@Test
+	void 실행_중에_요청한_날짜는_실행_중인_작업이_이어서_처리() throws InterruptedException {
+		// 재개한 작업이 첫 구간에서 멈춰 있는 동안 다음 날짜 작업을 요청
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TopicRepository blockingRepository = mock(TopicRepository.class, AdditionalAnswers.delegatesTo(topicRepository));
+		doAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			return topicRepository.insertMissingTopics(invocation.getArgument(0), invocation.getArgument(1),
+				invocation.getArgument(2), invocation.getArgument(3));
+		}).when(blockingRepository).insertMissingTopics(any(TopicSet.class), any(LocalDate.class), anyLong(), anyLong());
+		TopicGenerationJob job = job(blockingRepository);
+
+		job.resumeUnfinished();
+		assertThat(started.await(WAIT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+
+		TopicGenerationProgress next = TopicGenerationProgress.start(nextDate, TOPIC_SET_ID);
+		next.setLastGroupId(groupIds.get(0) - 1);
+		progressRepository.save(next);
+		// 실행 중이므로 기다리지 않고 돌아옴
+		job.run(nextDate);
+		assertThat(progressRepository.findById(nextDate)).map(TopicGenerationProgress::isCompleted).contains(false);
+
+		release.countDown();
+		await(() -> completed(issueDate) && completed(nextDate));
+
+		assertThat(groupIds).allSatisfy(groupId -> {
+			assertThat(topic(groupId)).isPresent();
+			assertThat(topicRepository.findTopicByGroupIdAndIssueDate(groupId, nextDate)).isPresent();
+		});
+	}
+
+	private boolean completed(LocalDate date) {
+		return progressRepository.findById(date).map(TopicGenerationProgress::isCompleted).orElse(false);
+	}
+
+	private TopicGenerationJob job(TopicRepository repository) {
+		TopicGenerationJob job = new TopicGenerationJob(groupRepository, repository, progressRepository,
+			topicSetCatalog, new SimpleMeterRegistry(), CHUNK_SIZE, 1);
+		jobs.add(job);
+		return job;
+	}
+
+	private Optional<Topic> topic(Long groupId) {
+		return topicRepository.findTopicByGroupIdAndIssueDate(groupId, issueDate);
+	}
+
+	private void await(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + WAIT.toNanos();
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("작업이 끝나기를 기다리는 중 시간 초과").isLessThan(deadline);
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
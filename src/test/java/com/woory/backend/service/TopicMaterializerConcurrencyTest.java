@@ -0,0 +1,103 @@
+package com.woory.backend.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.Topic;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.TopicRepository;
+import com.woory.backend.utils.DateUtil;
+import com.woory.backend.utils.TopicSetCatalog;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+public class TopicMaterializerConcurrencyTest {
+
+	private static final int REQUESTS = 10;
+
+	@Autowired
+	private TopicMaterializer topicMaterializer;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private TopicRepository topicRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TopicSetCatalog topicSetCatalog;
+
+	private Group group;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("insert ignore into topic_set (topic_id, topic_value, topic_byte) values (1, '가장 최근에 본 영화', 19)");
+		topicSetCatalog.reload();
+		group = new Group();
+		group.setGroupName("우리");
+		groupRepository.save(group);
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> groupRepository.deleteByGroupId(group.getGroupId()));
+	}
+
+	@Test
+	void 동시에_처음_조회해도_토픽은_하나만_생김() throws Exception {
+		LocalDate date = DateUtil.today().plusDays(1);
+		ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Topic>> futures = new ArrayList<>();
+		for (int i = 0; i < REQUESTS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				// 조회 요청처럼 먼저 읽은 뒤 같은 트랜잭션에서 만듦
+				return transactionTemplate.execute(status -> {
+					topicRepository.findTopicByGroupIdAndIssueDate(group.getGroupId(), date);
+					return topicMaterializer.getOrCreate(group.getGroupId(), date);
+				});
+			}));
+		}
+		start.countDown();
+		List<Long> topicIds = new ArrayList<>();
+		for (Future<Topic> future : futures) {
+			topicIds.add(future.get().getTopicId());
+		}
+		executor.shutdown();
+
+		assertThat(topicIds).hasSize(REQUESTS).containsOnly(topicIds.get(0));
+		assertThat(topicRepository.findTopicByGroupIdAndIssueDate(group.getGroupId(), date))
+			.map(Topic::getTopicId).contains(topicIds.get(0));
+	}
+
+	@Test
+	void 이미_있는_토픽은_그대로_가져감() {
+		LocalDate date = DateUtil.today();
+		Topic existing = topicRepository.save(Topic.builder().group(group).topicContent("토픽").issueDate(date).build());
+
+		Topic topic = transactionTemplate.execute(status -> topicMaterializer.getOrCreate(group.getGroupId(), date));
+
+		assertThat(topic.getTopicId()).isEqualTo(existing.getTopicId());
+		assertThat(topic.getTopicContent()).isEqualTo("토픽");
+	}
+}
@@ -0,0 +1,114 @@
+package com.woory.backend.utils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.UserDto;
+
+public class OAuthCodeStoreTest {
+
+	private static CustomOAuth2User user(long userId) {
+		return new CustomOAuth2User(UserDto.builder()
+			.userId(userId)
+			.username("kakao 1234")
+			.role("ROLE_USER")
+			.build());
+	}
+
+	@Test
+	void 코드는_한번만_사용할_수_있다() {
+		OAuthCodeStore store = new InMemoryOAuthCodeStore(60, 100);
+		store.save("code", user(1L));
+
+		assertThat(store.consume("code")).map(CustomOAuth2User::getName).contains("1");
+		assertThat(store.consume("code")).isEmpty();
+	}
+
+	@Test
+	void 만료된_코드는_사용할_수_없다() {
+		AtomicLong now = new AtomicLong();
+		OAuthCodeStore store = new InMemoryOAuthCodeStore(60, 100, now::get, Runnable::run);
+		store.save("code", user(1L));
+
+		now.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+		assertThat(store.consume("code")).isEmpty();
+	}
+
+	@Test
+	void 저장_개수는_최대치를_넘지_않는다() {
+		InMemoryOAuthCodeStore store = new InMemoryOAuthCodeStore(60, 10, System::nanoTime, Runnable::run);
+		for (long i = 0; i < 1000; i++) {
+			store.save("code" + i, user(i));
+		}
+
+		long remaining = 0;
+		for (long i = 0; i < 1000; i++) {
+			if (store.consume("code" + i).isPresent()) {
+				remaining++;
+			}
+		}
+		assertThat(remaining).isLessThanOrEqualTo(10);
+	}
+
+	@Test
+	void 동시에_같은_코드를_사용해도_한번만_성공한다() throws Exception {
+		OAuthCodeStore store = new InMemoryOAuthCodeStore(60, 100);
+		store.save("code", user(1L));
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			results.add(executor.submit(() -> store.consume("code").isPresent()));
+		}
+		long succeeded = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get()) {
+				succeeded++;
+			}
+		}
+		executor.shutdown();
+
+		assertThat(succeeded).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void Redis_저장소도_같은_규칙을_따른다() {
+		// Redis 대신 맵으로 SET/GETDEL 동작을 흉내냄
+		Map<String, String> redis = new ConcurrentHashMap<>();
+		StringRedisTemplate template = mock(StringRedisTemplate.class);
+		ValueOperations<String, String> ops = mock(ValueOperations.class);
+		when(template.opsForValue()).thenReturn(ops);
+		doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(ops).set(anyString(), anyString(), any(Duration.class));
+		when(ops.getAndDelete(anyString())).thenAnswer(invocation -> redis.remove((String)invocation.getArgument(0)));
+
+		OAuthCodeStore store = new RedisOAuthCodeStore(template, 60);
+		store.save("code", user(7L));
+
+		verify(ops).set(eq("oauth:code:code"), anyString(), eq(Duration.ofSeconds(60)));
+		CustomOAuth2User consumed = store.consume("code").orElseThrow();
+		assertThat(consumed.getName()).isEqualTo("7");
+		assertThat(consumed.getUsername()).isEqualTo("kakao 1234");
+		assertThat(consumed.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+		assertThat(store.consume("code")).isEmpty();
+	}
+}
@@ -0,0 +1,79 @@
+package com.woory.backend.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import com.woory.backend.error.CustomException;
+
+class PhotoUtilsTest {
+
+	@Test
+	void 고정_너비로_jpeg_썸네일_생성() throws IOException {
+		byte[] png = image(2000, 1000, "png");
+
+		Map<Integer, byte[]> thumbnails = PhotoUtils.createJpegThumbnails(new ByteArrayInputStream(png), 160, 480);
+
+		BufferedImage small = ImageIO.read(new ByteArrayInputStream(thumbnails.get(160)));
+		BufferedImage preview = ImageIO.read(new ByteArrayInputStream(thumbnails.get(480)));
+		assertThat(small.getWidth()).isEqualTo(160);
+		assertThat(small.getHeight()).isEqualTo(80);
+		assertThat(preview.getWidth()).isEqualTo(480);
+		assertThat(preview.getHeight()).isEqualTo(240);
+	}
+
+	@Test
+	void 원본보다_크게_늘리지_않음() throws IOException {
+		byte[] jpeg = image(100, 50, "jpeg");
+
+		Map<Integer, byte[]> thumbnails = PhotoUtils.createJpegThumbnails(new ByteArrayInputStream(jpeg), 160);
+
+		assertThat(ImageIO.read(new ByteArrayInputStream(thumbnails.get(160))).getWidth()).isEqualTo(100);
+	}
+
+	@Test
+	void 매직_바이트로_형식_확인_후_스트림_위치_유지() throws IOException {
+		byte[] png = image(10, 10, "png");
+		InputStream in = new BufferedInputStream(new ByteArrayInputStream(png));
+
+		assertThat(PhotoUtils.detectImageExtension(in)).isEqualTo("png");
+		assertThat(in.readAllBytes()).isEqualTo(png);
+		assertThat(PhotoUtils.detectImageExtension(
+			new BufferedInputStream(new ByteArrayInputStream(image(10, 10, "jpeg"))))).isEqualTo("jpeg");
+		assertThatThrownBy(() -> PhotoUtils.detectImageExtension(
+			new BufferedInputStream(new ByteArrayInputStream("GIF89a".getBytes()))))
+			.isInstanceOf(CustomException.class);
+	}
+
+	@Test
+	void 패딩이_있든_없든_디코딩된_크기_계산() throws IOException {
+		for (int size = 1; size <= 6; size++) {
+			byte[] bytes = new byte[size];
+			String padded = "data:image/png;base64," + Base64.getEncoder().encodeToString(bytes);
+			String unpadded = "data:image/png;base64," + Base64.getEncoder().withoutPadding().encodeToString(bytes);
+
+			assertThat(PhotoUtils.base64DecodedLength(padded)).isEqualTo(size);
+			assertThat(PhotoUtils.base64DecodedLength(unpadded)).isEqualTo(size);
+			assertThat(PhotoUtils.base64ToInputStream(unpadded).readAllBytes()).hasSize(size);
+		}
+		assertThatThrownBy(() -> PhotoUtils.base64DecodedLength("data:image/png;base64,AAAAA"))
+			.isInstanceOf(CustomException.class);
+	}
+
+	private byte[] image(int width, int height, String format) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+		return out.toByteArray();
+	}
+}
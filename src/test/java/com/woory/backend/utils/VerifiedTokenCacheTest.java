@@ -0,0 +1,81 @@
+package com.woory.backend.utils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.woory.backend.domain.TokenStatus;
+import com.woory.backend.domain.VerifiedToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VerifiedTokenCacheTest {
+
+	private static final String SECRET;
+
+	static {
+		byte[] secret = new byte[64];
+		Arrays.fill(secret, (byte)7);
+		SECRET = Base64.getEncoder().encodeToString(secret);
+	}
+
+	private static VerifiedTokenCache cache(JWTUtil jwtUtil) {
+		return new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), 100, 600);
+	}
+
+	@Test
+	void 같은_토큰은_한번만_검증() {
+		JWTUtil jwtUtil = spy(new JWTUtil(SECRET, 60L));
+		VerifiedTokenCache cache = cache(jwtUtil);
+		String token = jwtUtil.generateAccessToken(1L, "ROLE_USER");
+
+		assertThat(cache.get(token)).map(VerifiedToken::getUserId).contains(1L);
+		assertThat(cache.get(token)).map(VerifiedToken::getUserId).contains(1L);
+
+		verify(jwtUtil, times(1)).verifyAccessToken(token);
+	}
+
+	@Test
+	void 토큰이_만료되면_캐시에서도_사라짐() throws InterruptedException {
+		JWTUtil jwtUtil = spy(new JWTUtil(SECRET, 1L));
+		VerifiedTokenCache cache = cache(jwtUtil);
+		String token = jwtUtil.generateAccessToken(1L, "ROLE_USER");
+		assertThat(cache.get(token)).isPresent();
+
+		Thread.sleep(1_500);
+
+		assertThat(cache.get(token)).isEmpty();
+		verify(jwtUtil, times(2)).verifyAccessToken(token);
+	}
+
+	@Test
+	void 검증에_실패한_토큰은_저장하지_않음() {
+		JWTUtil jwtUtil = spy(new JWTUtil(SECRET, 60L));
+		VerifiedTokenCache cache = cache(jwtUtil);
+		String token = jwtUtil.generateAccessToken(1L, "ROLE_USER");
+		// 서명을 바꾼 토큰
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(cache.get(tampered)).isEmpty();
+		assertThat(cache.get(tampered)).isEmpty();
+
+		verify(jwtUtil, times(2)).verifyAccessToken(tampered);
+		assertThat(jwtUtil.validateAccessToken(tampered)).isEqualTo(TokenStatus.IS_NOT_VALID);
+	}
+
+	@Test
+	void 만료된_토큰의_상태() throws InterruptedException {
+		JWTUtil jwtUtil = new JWTUtil(SECRET, 1L);
+		String token = jwtUtil.generateAccessToken(1L, "ROLE_USER");
+		assertThat(jwtUtil.validateAccessToken(token)).isEqualTo(TokenStatus.IS_VALID);
+
+		Thread.sleep(1_500);
+
+		assertThat(jwtUtil.validateAccessToken(token)).isEqualTo(TokenStatus.IS_EXPIRED);
+		assertThat(jwtUtil.verifyAccessToken(token)).isEmpty();
+	}
+}
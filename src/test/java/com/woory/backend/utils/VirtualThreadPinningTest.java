@@ -0,0 +1,188 @@
+package com.woory.backend.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.woory.backend.dto.CustomOAuth2User;
+import com.woory.backend.dto.UserDto;
+import com.woory.backend.entity.Group;
+import com.woory.backend.entity.GroupStatus;
+import com.woory.backend.entity.GroupUser;
+import com.woory.backend.entity.User;
+import com.woory.backend.repository.GroupRepository;
+import com.woory.backend.repository.ImageUploadRepository;
+import com.woory.backend.repository.UserRepository;
+import com.woory.backend.service.AwsService;
+import com.woory.backend.service.GroupMembershipCache;
+import com.woory.backend.service.S3MockConfig;
+
+import io.findify.s3mock.S3Mock;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * 가상 스레드에서 실제 서비스 호출이 캐리어 스레드를 고정(pinning)하지 않는지 JFR 이벤트로 확인
+ * 연결 풀(Hikari) 크기보다 많은 스레드로 호출해 연결 대기도 함께 확인한다.
+ * 테스트 DB 는 H2 이므로 운영의 MySQL 드라이버 내부는 확인하지 않는다.
+ * ./gradlew test -PjavaVersion=21
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@Import(S3MockConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest
+public class VirtualThreadPinningTest {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int THREADS = 20;
+	private static final byte[] PNG = Base64.getDecoder().decode(
+		"iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+	@Autowired
+	private TopicSetCatalog topicSetCatalog;
+	@Autowired
+	private GroupMembershipCache groupMembershipCache;
+	@Autowired
+	private AwsService awsService;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private GroupRepository groupRepository;
+	@Autowired
+	private ImageUploadRepository imageUploadRepository;
+
+	private User user;
+	private Group group;
+
+	@BeforeAll
+	static void startS3(@Autowired S3Mock s3Mock, @Autowired AmazonS3 amazonS3) {
+		s3Mock.start();
+		amazonS3.createBucket("test-bucket");
+	}
+
+	@AfterAll
+	static void stopS3(@Autowired S3Mock s3Mock) {
+		s3Mock.stop();
+	}
+
+	@AfterEach
+	void tearDown() {
+		imageUploadRepository.deleteAll();
+		if (group != null) {
+			groupRepository.deleteById(group.getGroupId());
+		}
+		if (user != null) {
+			userRepository.deleteById(user.getUserId());
+		}
+	}
+
+	@Test
+	void 토픽_세트_다시_읽기는_가상_스레드를_고정하지_않음() throws Exception {
+		List<RecordedEvent> pinned = recordPinnedEvents(() -> topicSetCatalog.reload());
+
+		assertThat(pinned).isEmpty();
+	}
+
+	@Test
+	void 가족_상태_캐시_조회는_가상_스레드를_고정하지_않음() throws Exception {
+		saveMember();
+
+		// 매번 캐시를 비워 Caffeine 조회, JDBC 조회, 캐시 저장을 모두 거치게 함
+		List<RecordedEvent> pinned = recordPinnedEvents(() -> {
+			groupMembershipCache.invalidate(user.getUserId(), group.getGroupId());
+			assertThat(groupMembershipCache.getStatus(user.getUserId(), group.getGroupId()))
+				.contains(GroupStatus.MEMBER);
+		});
+
+		assertThat(pinned).isEmpty();
+	}
+
+	@Test
+	void 이미지_업로드는_가상_스레드를_고정하지_않음() throws Exception {
+		// S3 업로드와 업로드 기록 저장
+		List<RecordedEvent> pinned = recordPinnedEvents(() -> {
+			SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				new CustomOAuth2User(UserDto.builder().userId(1L).role("ROLE_USER").build()), null, List.of()));
+			try {
+				awsService.upload(new ByteArrayInputStream(PNG), PNG.length);
+			} finally {
+				SecurityContextHolder.clearContext();
+			}
+		});
+
+		assertThat(pinned).isEmpty();
+		assertThat(imageUploadRepository.count()).isEqualTo(THREADS);
+	}
+
+	private void saveMember() {
+		user = userRepository.save(User.builder().nickname("나").role("ROLE_USER").build());
+		group = new Group();
+		group.setGroupName("우리");
+		GroupUser groupUser = new GroupUser();
+		groupUser.setGroup(group);
+		groupUser.setUser(user);
+		groupUser.setStatus(GroupStatus.MEMBER);
+		groupUser.setRegDate(new Date());
+		group.getGroupUsers().add(groupUser);
+		group = groupRepository.save(group);
+	}
+
+	private List<RecordedEvent> recordPinnedEvents(Runnable task) throws Exception {
+		Path file = Files.createTempFile("virtual-thread-pinning", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+
+			ExecutorService executor = newVirtualThreadPerTaskExecutor();
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(task));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			executor.shutdown();
+
+			recording.stop();
+			recording.dump(file);
+		}
+		try {
+			return RecordingFile.readAllEvents(file).stream()
+				.filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+				.toList();
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	// 17 툴체인에서도 컴파일되도록 리플렉션으로 생성
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	}
+}